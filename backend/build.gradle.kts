@@ -2,6 +2,7 @@ plugins {
     id("org.springframework.boot") version "3.2.5"
     id("io.spring.dependency-management") version "1.1.4"
     id("java")
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.portfolio"
@@ -27,6 +28,9 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-oauth2-client")
     implementation("org.springframework.boot:spring-boot-starter-validation")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-cache")
+    implementation("com.github.ben-manes.caffeine:caffeine")
 
     // AWS SDK
     implementation("io.awspring.cloud:spring-cloud-aws-starter-s3:3.1.0")
@@ -50,8 +54,49 @@ dependencies {
 
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
+
+    // 필터 벤치마크에서 MockHttpServletRequest 를 쓴다.
+    jmhImplementation("org.springframework:spring-test")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+// 플랫폼 스레드와 가상 스레드의 주문 API 처리량 비교. 가상 스레드를 쓰므로 Java 21 런타임에서 실행한다.
+tasks.register<Test>("benchmark") {
+    description = "Runs load benchmarks tagged 'benchmark'."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    javaLauncher.set(javaToolchains.launcherFor {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    })
+    testLogging {
+        showStandardStreams = true
+    }
+}
+
+// 도메인 핫패스 마이크로 벤치마크 (src/jmh). 결과는 JSON 으로 남겨 실행 간 회귀를 비교한다.
+jmh {
+    jmhVersion.set("1.37")
+    includeTests.set(false)
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    // gc.alloc.rate.norm (연산당 할당 바이트)을 결과에 함께 남긴다.
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+    // -Pjmh.includes=MoneyBenchmark 처럼 일부만 실행할 수 있다.
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.set(listOf(it)) }
+}
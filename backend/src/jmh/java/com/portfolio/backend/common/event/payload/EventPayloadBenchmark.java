@@ -0,0 +1,67 @@
+package com.portfolio.backend.common.event.payload;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스 매니저가 이벤트마다 수행하는 페이로드 직렬화/역직렬화 비용.
+ * 애플리케이션과 같은 모듈 구성을 쓰도록 Jackson2ObjectMapperBuilder 로 ObjectMapper 를 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventPayloadBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    private ObjectMapper objectMapper;
+
+    private ProductStockReductionEventPayload stockReductionPayload;
+    private String stockReductionJson;
+
+    private OrderPaymentEventPayload paymentPayload;
+    private String paymentJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<ProductStockReductionEventPayload.OrderItem> orderItems = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            orderItems.add(new ProductStockReductionEventPayload.OrderItem((long) i + 1, 1 + i % 3));
+        }
+        stockReductionPayload = new ProductStockReductionEventPayload(orderItems);
+        stockReductionJson = objectMapper.writeValueAsString(stockReductionPayload);
+
+        paymentPayload = new OrderPaymentEventPayload(1L, BigDecimal.valueOf(129000));
+        paymentJson = objectMapper.writeValueAsString(paymentPayload);
+    }
+
+    @Benchmark
+    public String writeStockReduction() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(stockReductionPayload);
+    }
+
+    @Benchmark
+    public ProductStockReductionEventPayload readStockReduction() throws JsonProcessingException {
+        return objectMapper.readValue(stockReductionJson, ProductStockReductionEventPayload.class);
+    }
+
+    @Benchmark
+    public String writePayment() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(paymentPayload);
+    }
+
+    @Benchmark
+    public OrderPaymentEventPayload readPayment() throws JsonProcessingException {
+        return objectMapper.readValue(paymentJson, OrderPaymentEventPayload.class);
+    }
+}
@@ -0,0 +1,57 @@
+package com.portfolio.backend.common.security.jwt;
+
+import com.portfolio.backend.domain.user.entity.Oauth2ProviderType;
+import com.portfolio.backend.domain.user.entity.RoleType;
+import com.portfolio.backend.domain.user.entity.User;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청 한 건이 JwtAuthenticationFilter 를 통과하는 비용. 검증 결과 캐시 사용 여부를 비교한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"false", "true"})
+    private boolean cacheEnabled;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtCacheProperties properties = new JwtCacheProperties();
+        properties.setEnabled(cacheEnabled);
+        JwtTokenProvider provider = new JwtTokenProvider("12345678901234567890123456789012", 86400000, properties);
+
+        User user = new User("bench@email.com", "bench", Oauth2ProviderType.GITHUB, "bench", null, RoleType.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        filter = new JwtAuthenticationFilter(provider);
+        authorization = "Bearer " + provider.createToken(user);
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object authenticate() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        request.addHeader("Authorization", authorization);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,43 @@
+package com.portfolio.backend.domain.common.value;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+
+    private Money price;
+    private Money other;
+    private int quantity;
+
+    @Setup
+    public void setUp() {
+        price = new Money(BigDecimal.valueOf(12900));
+        other = new Money(BigDecimal.valueOf(3500));
+        quantity = 3;
+    }
+
+    @Benchmark
+    public Money add() {
+        return price.add(other);
+    }
+
+    @Benchmark
+    public Money subtract() {
+        return price.subtract(other);
+    }
+
+    @Benchmark
+    public Money multiply() {
+        return price.multiply(quantity);
+    }
+
+    @Benchmark
+    public boolean compare() {
+        return other.isLessThan(price);
+    }
+}
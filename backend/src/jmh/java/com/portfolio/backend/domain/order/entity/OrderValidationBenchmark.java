@@ -0,0 +1,69 @@
+package com.portfolio.backend.domain.order.entity;
+
+import com.portfolio.backend.domain.common.value.Address;
+import com.portfolio.backend.domain.common.value.Money;
+import com.portfolio.backend.domain.order.value.DeliveryInfo;
+import com.portfolio.backend.domain.order.value.OrderItem;
+import com.portfolio.backend.domain.product.entity.Product;
+import com.portfolio.backend.domain.product.entity.ProductCategory;
+import com.portfolio.backend.domain.user.entity.Oauth2ProviderType;
+import com.portfolio.backend.domain.user.entity.RoleType;
+import com.portfolio.backend.domain.user.entity.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 생성 시 검증 비용. 상품 금액 합산(stream + Money::add)이 주문 상품 수에 비례해 늘어난다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderValidationBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    private User user;
+    private DeliveryInfo deliveryInfo;
+    private List<OrderItem> orderItems;
+    private Money totalPrice;
+
+    @Setup
+    public void setUp() {
+        user = new User("bench@email.com", "bench", Oauth2ProviderType.GITHUB, "bench", null, RoleType.USER);
+        deliveryInfo = new DeliveryInfo("홍길동", "010-1234-5678",
+                new Address("서울시 강남구", "101동 101호", "12345"), null);
+
+        orderItems = new ArrayList<>(itemCount);
+        Money sum = Money.zero();
+        for (int i = 0; i < itemCount; i++) {
+            Product product = Product.builder()
+                    .name("상품" + i)
+                    .originalPrice(new Money(BigDecimal.valueOf(20000 + i)))
+                    .price(new Money(BigDecimal.valueOf(15000 + i)))
+                    .category(ProductCategory.ELECTRONICS)
+                    .stock(100)
+                    .build();
+            OrderItem orderItem = new OrderItem(product, 1 + i % 3);
+            orderItems.add(orderItem);
+            sum = sum.add(orderItem.getTotalPrice());
+        }
+        totalPrice = sum;
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        return new Order(user, totalPrice, orderItems, deliveryInfo);
+    }
+
+    @Benchmark
+    public Money sumItemPrices() {
+        return orderItems.stream()
+                .map(OrderItem::getTotalPrice)
+                .reduce(Money.zero(), Money::add);
+    }
+}
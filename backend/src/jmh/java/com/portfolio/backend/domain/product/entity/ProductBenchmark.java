@@ -0,0 +1,31 @@
+package com.portfolio.backend.domain.product.entity;
+
+import com.portfolio.backend.domain.common.value.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductBenchmark {
+
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        product = Product.builder()
+                .name("상품")
+                .originalPrice(new Money(BigDecimal.valueOf(39900)))
+                .price(new Money(BigDecimal.valueOf(29900)))
+                .category(ProductCategory.ELECTRONICS)
+                .stock(100)
+                .build();
+    }
+
+    @Benchmark
+    public int getDiscountRate() {
+        return product.getDiscountRate();
+    }
+}
@@ -0,0 +1,65 @@
+package com.portfolio.backend.domain.product.entity;
+
+import com.portfolio.backend.common.exception.UnprocessableEntityException;
+import com.portfolio.backend.domain.common.value.Money;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고가 바닥난 상품에 주문이 몰릴 때의 거절 처리량.
+ * 실제 요청은 필터, 프록시, 트랜잭션 인터셉터를 거친 깊은 스택에서 거절되므로 stackDepth 만큼 호출을 쌓은 뒤 던진다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StockRejectionBenchmark {
+
+    @Param({"20", "100"})
+    private int stackDepth;
+
+    private ProductStock soldOutStock;
+
+    @Setup
+    public void setUp() {
+        Product product = Product.builder()
+                .name("한정판")
+                .originalPrice(new Money(BigDecimal.valueOf(10000)))
+                .price(new Money(BigDecimal.valueOf(9000)))
+                .category(ProductCategory.ELECTRONICS)
+                .stock(0)
+                .build();
+        soldOutStock = new ProductStock(product, 0);
+    }
+
+    // 변경 전처럼 거절할 때마다 스택 트레이스를 채우는 예외
+    @Benchmark
+    public void stackTraceRejection(Blackhole blackhole) {
+        try {
+            descend(stackDepth, () -> {
+                throw new UnprocessableEntityException("재고가 부족합니다.");
+            });
+        } catch (UnprocessableEntityException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void stacklessRejection(Blackhole blackhole) {
+        try {
+            descend(stackDepth, () -> soldOutStock.decrease(1, StockChangeReason.SALE));
+        } catch (UnprocessableEntityException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    private static void descend(int depth, Runnable action) {
+        if (depth == 0) {
+            action.run();
+            return;
+        }
+        descend(depth - 1, action);
+    }
+}
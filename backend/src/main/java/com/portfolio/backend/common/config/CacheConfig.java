@@ -0,0 +1,40 @@
+package com.portfolio.backend.common.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portfolio.backend.service.product.ProductCacheNames;
+import com.portfolio.backend.service.product.ProductCacheProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * 트랜잭션 안에서의 evict 는 커밋 이후로 미룬다. 커밋 전에 지우면 동시 조회가 이전 값을 다시 채울 수 있다.
+     * 캐시 이름을 미리 등록해 두어야 actuator 가 hit/miss/eviction 지표를 바인딩한다.
+     */
+    @Bean
+    public CacheManager cacheManager(ProductCacheProperties properties) {
+        if (!properties.isEnabled()) {
+            return new NoOpCacheManager();
+        }
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats());
+        cacheManager.setCacheNames(List.of(ProductCacheNames.PRODUCT, ProductCacheNames.PRODUCTS));
+        cacheManager.setAllowNullValues(false);
+
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -8,4 +8,15 @@ public class DomainException extends RuntimeException {
 	public DomainException(String message, Throwable cause) {
 		super(message, cause);
 	}
+
+	private DomainException(String message, boolean writableStackTrace) {
+		super(message, null, false, writableStackTrace);
+	}
+
+	/**
+	 * 아웃박스 처리 중 예상된 거절(실패 응답으로 전환되는 경우)용. 스택 트레이스를 채우지 않는다.
+	 */
+	public static DomainException rejection(String message) {
+		return new DomainException(message, false);
+	}
 }
@@ -0,0 +1,20 @@
+package com.portfolio.backend.common.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 요청이 몰려 지금은 받을 수 없을 때 쓴다. 클라이언트는 retryAfter 뒤에 다시 시도한다.
+ * 부하가 높을 때 자주 발생하는 예상된 거절이므로 스택 트레이스를 채우지 않는다.
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+	private final Duration retryAfter;
+
+	public TooManyRequestsException(String message, Duration retryAfter) {
+		super(message, null, false, false);
+		this.retryAfter = retryAfter;
+	}
+}
@@ -9,4 +9,16 @@ public class UnprocessableEntityException extends RuntimeException {
 	public UnprocessableEntityException(String message, Throwable cause) {
 		super(message, cause);
 	}
+
+	private UnprocessableEntityException(String message, boolean writableStackTrace) {
+		super(message, null, false, writableStackTrace);
+	}
+
+	/**
+	 * 재고 부족, 잔액 부족처럼 자주 발생하는 예상된 거절용. 스택 트레이스를 채우지 않는다.
+	 * 예외 상태가 바뀌지 않으므로 메시지가 고정이면 상수로 만들어 재사용해도 된다.
+	 */
+	public static UnprocessableEntityException rejection(String message) {
+		return new UnprocessableEntityException(message, false);
+	}
 }
@@ -3,10 +3,13 @@ package com.portfolio.backend.common.exception.handler;
 import com.portfolio.backend.common.exception.DomainException;
 import com.portfolio.backend.common.exception.FileStorageException;
 import com.portfolio.backend.common.exception.ResourceNotFoundException;
+import com.portfolio.backend.common.exception.TooManyRequestsException;
 import com.portfolio.backend.common.exception.UnprocessableEntityException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -43,6 +46,18 @@ public class GlobalExceptionHandler {
 						ex.getBindingResult()));
 	}
 
+	// 요청 본문 역직렬화 실패. 값 객체 생성자의 검증(음수·범위 초과 금액 등)도 여기로 온다.
+	@ExceptionHandler(HttpMessageNotReadableException.class)
+	public ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(
+			HttpMessageNotReadableException ex, WebRequest request) {
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+				.body(new ErrorResponse(
+						LocalDateTime.now(),
+						HttpStatus.BAD_REQUEST.value(),
+						ex.getMostSpecificCause().getMessage(),
+						request.getDescription(false)));
+	}
+
 	@ExceptionHandler(ResourceNotFoundException.class)
 	public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
 			ResourceNotFoundException ex, WebRequest request) {
@@ -65,6 +80,20 @@ public class GlobalExceptionHandler {
 						request.getDescription(false)));
 	}
 
+	@ExceptionHandler(TooManyRequestsException.class)
+	public ResponseEntity<ErrorResponse> handleTooManyRequestsException(
+			TooManyRequestsException ex, WebRequest request) {
+		// Retry-After 는 초 단위 정수이므로 올림하고 최소 1초로 보낸다.
+		long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+				.body(new ErrorResponse(
+						LocalDateTime.now(),
+						HttpStatus.TOO_MANY_REQUESTS.value(),
+						ex.getMessage(),
+						request.getDescription(false)));
+	}
+
 	@ExceptionHandler(DomainException.class)
 	public ResponseEntity<ErrorResponse> handleDomainException(DomainException ex, WebRequest request) {
 		log.error("DomainException: {}", ex.getMessage(), ex);
@@ -0,0 +1,27 @@
+package com.portfolio.backend.common.security.jwt;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jwt.cache")
+public class JwtCacheProperties {
+
+    // false 이면 요청마다 서명을 검증한다.
+    private boolean enabled = true;
+
+    // 캐시에 담을 최대 토큰 수
+    private long maximumSize = 10000;
+
+    // 토큰 만료(exp)보다 길게 잡혀 있어도 이 시간이 지나면 다시 검증한다.
+    private Duration maxTtl = Duration.ofMinutes(10);
+
+    public JwtCacheProperties() {}
+
+}
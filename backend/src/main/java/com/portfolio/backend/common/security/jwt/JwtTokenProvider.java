@@ -1,41 +1,51 @@
 package com.portfolio.backend.common.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.portfolio.backend.common.security.UserImpl;
 import com.portfolio.backend.domain.user.entity.RoleType;
 import com.portfolio.backend.domain.user.entity.User;
 import com.portfolio.backend.common.security.UserDetailsImpl;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private final long tokenValidityInMilliseconds;
 
-    @Value("${jwt.expiration}")
-    private long tokenValidityInMilliseconds;
+    private final SecretKey key;
 
-    private Key key;
+    // JwtParser 는 불변이라 스레드 간에 공유해도 된다. 요청마다 새로 만들지 않는다.
+    private final JwtParser parser;
 
-    @PostConstruct
-    public void init() {
+    // 검증이 끝난 토큰 해시 -> 인증 주체. 비활성화 시 null
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
+                            @Value("${jwt.expiration}") long tokenValidityInMilliseconds,
+                            JwtCacheProperties cacheProperties) {
+        this.tokenValidityInMilliseconds = tokenValidityInMilliseconds;
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verifiedTokens = cacheProperties.isEnabled() ? createCache(cacheProperties) : null;
     }
 
     public String createToken(User user) {
@@ -65,28 +75,40 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public Authentication getAuthentication(String token) {
-        var claims = Jwts.parser()
-                .verifyWith((javax.crypto.SecretKey) key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * 토큰을 한 번만 파싱해 검증과 인증 객체 생성을 함께 처리한다.
+     *
+     * @return 유효하지 않은 토큰이면 null
+     */
+    public Authentication resolveAuthentication(String token) {
+        VerifiedToken verified = verifiedTokens == null
+                ? verify(token)
+                : verifiedTokens.get(hash(token), ignored -> verify(token));
 
-        Long id = claims.get("id", Long.class);
-        String email = claims.getSubject();
-        RoleType role = RoleType.valueOf(claims.get("role", String.class));
-
-        UserImpl user = new UserImpl(id, email, role);
+        if (verified == null) {
+            return null;
+        }
+        // 캐시 만료 직전에 꺼낸 항목이 exp 를 넘겼을 수 있다.
+        if (verified.expiresAt() != null && !verified.expiresAt().isAfter(Instant.now())) {
+            log.error("Expired JWT token");
+            return null;
+        }
+        return new UsernamePasswordAuthenticationToken(verified.principal(), token, verified.principal().getAuthorities());
+    }
 
-        UserDetailsImpl principal = new UserDetailsImpl(user);
-        
-        return new UsernamePasswordAuthenticationToken(principal, token, principal.getAuthorities());
+    public Authentication getAuthentication(String token) {
+        return toAuthentication(parser.parseSignedClaims(token).getPayload(), token);
     }
 
     public boolean validateToken(String token) {
+        return verify(token) != null;
+    }
+
+    private VerifiedToken verify(String token) {
         try {
-            Jwts.parser().verifyWith((javax.crypto.SecretKey) key).build().parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Date expiration = claims.getExpiration();
+            return new VerifiedToken(toPrincipal(claims), expiration == null ? null : expiration.toInstant());
         } catch (SecurityException | MalformedJwtException e) {
             log.error("Invalid JWT signature");
         } catch (ExpiredJwtException e) {
@@ -95,7 +117,64 @@ public class JwtTokenProvider {
             log.error("Unsupported JWT token");
         } catch (IllegalArgumentException e) {
             log.error("JWT token compact of handler are invalid");
+        } catch (JwtException e) {
+            // 서명 불일치(io.jsonwebtoken.security.SignatureException)는 java.lang.SecurityException 이 아니다.
+            log.error("Invalid JWT token");
+        }
+        return null;
+    }
+
+    private Authentication toAuthentication(Claims claims, String token) {
+        UserDetailsImpl principal = toPrincipal(claims);
+        return new UsernamePasswordAuthenticationToken(principal, token, principal.getAuthorities());
+    }
+
+    private UserDetailsImpl toPrincipal(Claims claims) {
+        Long id = claims.get("id", Long.class);
+        String email = claims.getSubject();
+        RoleType role = RoleType.valueOf(claims.get("role", String.class));
+
+        return new UserDetailsImpl(new UserImpl(id, email, role));
+    }
+
+    // 원문 토큰을 메모리에 남기지 않도록 해시를 키로 쓴다.
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
-        return false;
     }
-}
\ No newline at end of file
+
+    private static Cache<String, VerifiedToken> createCache(JwtCacheProperties properties) {
+        long maxTtlNanos = properties.getMaxTtl().toNanos();
+
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        if (value.expiresAt() == null) {
+                            return maxTtlNanos;
+                        }
+                        long untilExpiration = ChronoUnit.NANOS.between(Instant.now(), value.expiresAt());
+                        return Math.max(0, Math.min(untilExpiration, maxTtlNanos));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    private record VerifiedToken(UserDetailsImpl principal, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,188 @@
+package com.portfolio.backend.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 항목을 bounded 큐에 모았다가 워커 하나가 묶어서 기록한다.
+ * 워커는 전달받은 실행기에서 종료될 때까지 돌며, 하나뿐이므로 항목은 큐에 들어간 순서대로 기록된다.
+ * <p>
+ * 큐가 가득 차면 offerTimeout 만큼만 기다린 뒤 호출 스레드에서 바로 기록한다. 호출자를 무기한 붙잡지 않는다.
+ * 이미 종료되었으면 호출 스레드에서 바로 기록한다.
+ * 묶음 기록이 실패하면 항목을 하나씩 다시 기록하고, 그래도 실패한 항목은 failurePolicy 에 따라 바로 또는
+ * maxRetries 번 다시 시도한 뒤 dead-letter 로그로 보낸다.
+ * <p>
+ * 큐는 메모리에만 있으므로 프로세스가 비정상 종료되면 아직 기록하지 못한 항목은 사라진다.
+ */
+@Slf4j
+public class BufferedBatchWriter<T> {
+
+    // 끝내 기록하지 못한 항목을 남기는 로거. 운영에서는 별도 파일로 모아 다시 적재한다.
+    private static final Logger DEAD_LETTER = LoggerFactory.getLogger("dead-letter");
+
+    private final String name;
+    private final BufferedWriterProperties properties;
+    private final Consumer<List<T>> writer;
+    private final BlockingQueue<T> queue;
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    private final Timer flushTimer;
+    private final Counter writtenCounter;
+    private final Counter overflowCounter;
+    private final Counter failedCounter;
+    private final Counter retriedCounter;
+
+    private volatile boolean running = true;
+    private volatile long shutdownDeadline;
+
+    public BufferedBatchWriter(String name, BufferedWriterProperties properties, Consumer<List<T>> writer,
+                               MeterRegistry meterRegistry, TaskExecutor executor) {
+        this.name = name;
+        this.properties = properties;
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(properties.getCapacity());
+
+        Gauge.builder("buffered.writer.queue.size", queue, BlockingQueue::size)
+                .tag("name", name)
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("buffered.writer.flush")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.writtenCounter = meterRegistry.counter("buffered.writer.written", "name", name);
+        this.overflowCounter = meterRegistry.counter("buffered.writer.overflow", "name", name);
+        this.failedCounter = meterRegistry.counter("buffered.writer.failed", "name", name);
+        this.retriedCounter = meterRegistry.counter("buffered.writer.retried", "name", name);
+
+        executor.execute(this::work);
+    }
+
+    public void append(T item) {
+        if (running) {
+            try {
+                if (queue.offer(item, properties.getOfferTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                    // 종료와 경합해 워커가 이미 끝났다면 직접 비운다.
+                    if (!running) {
+                        drain();
+                    }
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            overflowCounter.increment();
+        }
+
+        write(List.of(item));
+    }
+
+    /**
+     * 새 항목을 더 받지 않고, 큐에 남은 항목을 모두 기록한 뒤 워커를 멈춘다.
+     */
+    public void shutdown() {
+        shutdownDeadline = System.nanoTime() + properties.getShutdownTimeout().toNanos();
+        running = false;
+        try {
+            stopped.await(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drain();
+    }
+
+    private void work() {
+        List<T> batch = new ArrayList<>(properties.getBatchSize());
+
+        try {
+            while (running || !queue.isEmpty()) {
+                try {
+                    T first = queue.poll(properties.getFlushInterval().toMillis(), TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, properties.getBatchSize() - 1);
+                    write(batch);
+                } catch (InterruptedException e) {
+                    // 종료 신호로 보고 남은 항목은 루프 조건에 따라 계속 비운다.
+                } finally {
+                    batch.clear();
+                }
+            }
+        } finally {
+            stopped.countDown();
+        }
+    }
+
+    private synchronized void drain() {
+        List<T> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        for (int from = 0; from < rest.size(); from += properties.getBatchSize()) {
+            write(rest.subList(from, Math.min(rest.size(), from + properties.getBatchSize())));
+        }
+    }
+
+    private void write(List<T> items) {
+        Timer.Sample sample = Timer.start();
+        try {
+            writer.accept(items);
+            writtenCounter.increment(items.size());
+        } catch (Exception e) {
+            if (items.size() == 1) {
+                writeFailed(items.get(0), e);
+                return;
+            }
+            log.warn("{} - 묶음 기록에 실패해 {}건을 하나씩 다시 기록합니다: {}", name, items.size(), e.getMessage());
+            for (T item : items) {
+                write(List.of(item));
+            }
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    private void writeFailed(T item, Exception failure) {
+        if (properties.getFailurePolicy() == BufferedWriterProperties.FailurePolicy.RETRY) {
+            // 항상 실패하는 항목(제약 위반 등)이 워커를 붙잡아 큐가 밀리지 않도록 횟수를 제한한다.
+            for (int retry = 0; retry < properties.getMaxRetries() && !isGivingUp(); retry++) {
+                log.warn("{} - 항목 기록에 실패해 {} 뒤 다시 기록합니다: {}", name, properties.getRetryBackoff(), failure.getMessage());
+                try {
+                    Thread.sleep(properties.getRetryBackoff().toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+
+                retriedCounter.increment();
+                try {
+                    writer.accept(List.of(item));
+                    writtenCounter.increment();
+                    return;
+                } catch (Exception e) {
+                    failure = e;
+                }
+            }
+        }
+
+        failedCounter.increment();
+        log.error("{} - 항목을 기록하지 못해 dead-letter 로 보냅니다: {}", name, failure.getMessage(), failure);
+        DEAD_LETTER.error("{}\t{}", name, item);
+    }
+
+    private boolean isGivingUp() {
+        return !running && System.nanoTime() - shutdownDeadline > 0;
+    }
+}
@@ -0,0 +1,51 @@
+package com.portfolio.backend.common.util;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * {@link BufferedBatchWriter} 설정. 기록 대상별 ConfigurationProperties 에 필드로 둔다.
+ */
+@Getter
+@Setter
+public class BufferedWriterProperties {
+
+    // false 이면 큐를 거치지 않고 호출 스레드에서 바로 기록한다.
+    private boolean enabled = true;
+
+    // 큐 용량
+    private int capacity = 10_000;
+
+    // 한 번에 기록하는 최대 항목 수
+    private int batchSize = 200;
+
+    // 항목이 batchSize 만큼 모이지 않아도 이 시간이 지나면 기록한다.
+    private Duration flushInterval = Duration.ofMillis(100);
+
+    // 큐가 가득 찼을 때 자리가 나기를 기다리는 시간. 초과하면 호출 스레드에서 바로 기록하며, 이때는 큐에 먼저 들어간 항목보다 앞설 수 있다.
+    private Duration offerTimeout = Duration.ofMillis(50);
+
+    // 종료 시 남은 항목을 기록하기를 기다리는 시간
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    // 항목 하나를 기록하지 못했을 때의 처리 방식
+    private FailurePolicy failurePolicy = FailurePolicy.DROP;
+
+    // RETRY 정책에서 실패한 항목을 다시 기록하기 전에 기다리는 시간
+    private Duration retryBackoff = Duration.ofSeconds(1);
+
+    // RETRY 정책에서 다시 시도하는 최대 횟수. 다시 시도하는 동안 워커가 멈추므로 작게 둔다.
+    private int maxRetries = 3;
+
+    public BufferedWriterProperties() {}
+
+    public enum FailurePolicy {
+        // 다시 시도하지 않고 dead-letter 로그로 보낸다.
+        DROP,
+        // retryBackoff 간격으로 maxRetries 번까지 다시 시도한 뒤 dead-letter 로그로 보낸다.
+        // 그동안 뒤의 항목은 기다리므로 순서가 유지된다. 종료 중에는 shutdownTimeout 이 지나면 바로 포기한다.
+        RETRY
+    }
+}
@@ -0,0 +1,32 @@
+package com.portfolio.backend.common.util;
+
+import com.portfolio.backend.service.common.dto.ResourceVersion;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ConditionalRequestUtils {
+
+    /**
+     * If-None-Match / If-Modified-Since 가 현재 버전과 일치하면 본문을 만들지 않고 304 를 반환한다.
+     * no-cache 를 명시해 클라이언트가 응답을 저장하되 매번 재검증하도록 한다.
+     * (지정하지 않으면 Spring Security 가 no-store 를 붙여 재검증 요청 자체가 오지 않는다)
+     */
+    public static <T> ResponseEntity<T> conditional(WebRequest request, ResourceVersion version, Supplier<T> body) {
+        if (request.checkNotModified(version.eTag(), version.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(body.get());
+    }
+}
@@ -0,0 +1,83 @@
+package com.portfolio.backend.common.util;
+
+import com.portfolio.backend.common.exception.UnprocessableEntityException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서를 클라이언트가 해석하지 않도록 불투명한 문자열로 인코딩한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorUtils {
+
+    private static final String VERSION = "v1:";
+    private static final String SEPARATOR = "@";
+
+    public record Position(LocalDateTime at, long id) {
+    }
+
+    public static String encode(long id) {
+        return encodePayload(String.valueOf(id));
+    }
+
+    /**
+     * 시각 + id 복합 키 커서. 같은 시각의 행은 id 로 순서를 정한다.
+     */
+    public static String encode(LocalDateTime at, long id) {
+        return encodePayload(id + SEPARATOR + at);
+    }
+
+    /**
+     * @return 커서가 비어 있으면 null (첫 페이지)
+     */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Long.parseLong(decodePayload(cursor));
+        } catch (IllegalArgumentException e) {
+            throw new UnprocessableEntityException("잘못된 커서입니다.", e);
+        }
+    }
+
+    /**
+     * @return 커서가 비어 있으면 null (첫 페이지)
+     */
+    public static Position decodePosition(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String payload = decodePayload(cursor);
+            int separator = payload.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new UnprocessableEntityException("잘못된 커서입니다.");
+            }
+            return new Position(LocalDateTime.parse(payload.substring(separator + 1)),
+                    Long.parseLong(payload.substring(0, separator)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new UnprocessableEntityException("잘못된 커서입니다.", e);
+        }
+    }
+
+    private static String encodePayload(String payload) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((VERSION + payload).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodePayload(String cursor) {
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        if (!decoded.startsWith(VERSION)) {
+            throw new UnprocessableEntityException("잘못된 커서입니다.");
+        }
+        return decoded.substring(VERSION.length());
+    }
+}
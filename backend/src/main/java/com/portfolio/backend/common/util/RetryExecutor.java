@@ -0,0 +1,105 @@
+package com.portfolio.backend.common.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적/비관적 락 충돌이 나면 지터를 더한 지수 백오프로 작업을 다시 실행한다.
+ * 대기는 sleep 하지 않고 스케줄러에 다음 시도를 예약하는 방식으로 처리한다.
+ * 결과는 CompletableFuture 로만 돌려주므로, 호출자가 join 하지 않고 이어서 처리해야
+ * 백오프 동안 요청/워커 스레드를 붙잡지 않는다. 작업은 시도마다 자체 트랜잭션을 열어야
+ * 대기하는 동안 DB 커넥션과 락을 잡고 있지 않는다.
+ */
+@Slf4j
+@Component
+public class RetryExecutor {
+
+    private final RetryProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskScheduler scheduler;
+
+    public RetryExecutor(RetryProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.scheduler = new ThreadPoolTaskScheduler();
+        this.scheduler.setPoolSize(properties.getSchedulerPoolSize());
+        this.scheduler.setThreadNamePrefix("retry-");
+        // 종료할 때 예약된 재시도를 취소하면 그 결과를 기다리는 쪽이 완료되지 않으므로 끝까지 실행한다.
+        this.scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        this.scheduler.setAwaitTerminationSeconds(30);
+        this.scheduler.initialize();
+    }
+
+    /**
+     * 첫 시도는 호출 스레드에서 바로 실행하고, 재시도는 스케줄러 스레드에서 실행한다.
+     */
+    public <T> CompletableFuture<T> submit(String operation, Supplier<T> action) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attempt(operation, action, 1, result);
+        return result;
+    }
+
+    public CompletableFuture<Void> run(String operation, Runnable action) {
+        return submit(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private <T> void attempt(String operation, Supplier<T> action, int attempt, CompletableFuture<T> result) {
+        RetryProperties.Budget budget = properties.getBudget(operation);
+        meterRegistry.counter("retry.attempts", "operation", operation).increment();
+
+        try {
+            result.complete(action.get());
+        } catch (ConcurrencyFailureException e) {
+            if (attempt >= budget.getMaxAttempts()) {
+                log.error("{} - 최대 재시도 횟수를 초과했습니다: {}", operation, e.getMessage());
+                meterRegistry.counter("retry.exhausted", "operation", operation).increment();
+                result.completeExceptionally(e);
+                return;
+            }
+
+            long delay = backoff(budget, attempt);
+            log.warn("{} - 락 충돌 발생, {}ms 후 재시도 {}/{}", operation, delay, attempt, budget.getMaxAttempts() - 1);
+            schedule(operation, action, attempt + 1, result, delay, e);
+        } catch (Throwable e) {
+            // Error 까지 결과로 넘겨야 기다리는 쪽이 영원히 완료되지 않는 일이 없다.
+            result.completeExceptionally(e);
+        }
+    }
+
+    private <T> void schedule(String operation, Supplier<T> action, int attempt, CompletableFuture<T> result,
+                              long delay, RuntimeException conflict) {
+        try {
+            scheduler.schedule(() -> attempt(operation, action, attempt, result), Instant.now().plusMillis(delay));
+        } catch (RuntimeException rejected) {
+            // 종료 중이라 예약이 거절되면 마지막 충돌 예외로 끝낸다.
+            log.error("{} - 재시도를 예약하지 못했습니다: {}", operation, rejected.getMessage());
+            conflict.addSuppressed(rejected);
+            result.completeExceptionally(conflict);
+        }
+    }
+
+    // 대기 시간의 절반은 고정, 나머지 절반은 무작위로 두어 충돌한 요청들이 같은 시점에 다시 몰리지 않게 한다.
+    private long backoff(RetryProperties.Budget budget, int attempt) {
+        long exponential = budget.getInitialDelay().toMillis() << Math.min(attempt - 1, 20);
+        long capped = Math.max(1, Math.min(exponential, budget.getMaxDelay().toMillis()));
+        long half = capped / 2;
+        return half + ThreadLocalRandom.current().nextLong(capped - half + 1);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+}
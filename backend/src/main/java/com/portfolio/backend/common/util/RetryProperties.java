@@ -0,0 +1,48 @@
+package com.portfolio.backend.common.util;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "retry")
+public class RetryProperties {
+
+    // 재시도를 예약 실행하는 스케줄러 스레드 수
+    private int schedulerPoolSize = 2;
+
+    // 작업별 설정이 없을 때 사용하는 재시도 예산
+    private Budget defaults = new Budget();
+
+    // 작업 이름별 재시도 예산
+    private Map<String, Budget> operations = new HashMap<>();
+
+    public RetryProperties() {}
+
+    public Budget getBudget(String operation) {
+        return operations.getOrDefault(operation, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Budget {
+
+        // 최초 시도를 포함한 최대 시도 횟수
+        private int maxAttempts = 3;
+
+        // 첫 재시도 대기 시간. 이후 시도마다 두 배로 늘어난다.
+        private Duration initialDelay = Duration.ofMillis(50);
+
+        // 재시도 대기 시간 상한
+        private Duration maxDelay = Duration.ofSeconds(1);
+
+        public Budget() {}
+    }
+}
@@ -1,6 +1,7 @@
 package com.portfolio.backend.controller.introduction;
 
 import com.portfolio.backend.common.security.UserDetailsImpl;
+import com.portfolio.backend.common.util.ConditionalRequestUtils;
 import com.portfolio.backend.service.introduction.IntroductionService;
 import com.portfolio.backend.service.introduction.dto.IntroductionServiceRequest.Create;
 import com.portfolio.backend.service.introduction.dto.IntroductionServiceRequest.Update;
@@ -8,9 +9,11 @@ import com.portfolio.backend.service.introduction.dto.IntroductionServiceRespons
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Slf4j
 @RestController
@@ -21,8 +24,9 @@ public class IntroductionController {
     private final IntroductionService introductionService;
 
     @GetMapping
-    public IntroductionServiceResponse.Get getIntroduction() {
-        return introductionService.getIntroduction();
+    public ResponseEntity<IntroductionServiceResponse.Get> getIntroduction(WebRequest webRequest) {
+        return ConditionalRequestUtils.conditional(webRequest, introductionService.getIntroductionVersion(),
+                introductionService::getIntroduction);
     }
 
     @PutMapping
@@ -1,6 +1,7 @@
 package com.portfolio.backend.controller.order;
 
 import com.portfolio.backend.common.security.UserDetailsImpl;
+import com.portfolio.backend.service.order.OrderAdmissionGate;
 import com.portfolio.backend.service.order.OrderService;
 import com.portfolio.backend.service.order.dto.OrderServiceRequest;
 import com.portfolio.backend.service.order.dto.OrderServiceResponse;
@@ -22,12 +23,15 @@ import java.util.UUID;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderAdmissionGate orderAdmissionGate;
 
     @PostMapping
     @PreAuthorize("isAuthenticated()")
     public void createOrder(@Valid @RequestBody OrderServiceRequest.Create request,
                             @AuthenticationPrincipal UserDetailsImpl userDetails){
-        orderService.createOrder(userDetails.getId(), request);
+        try (OrderAdmissionGate.Admission admission = orderAdmissionGate.admit(userDetails.getId())) {
+            orderService.createOrder(userDetails.getId(), request);
+        }
     }
 
     @PostMapping("/cancel/{orderId}")
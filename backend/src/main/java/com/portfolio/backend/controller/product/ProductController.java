@@ -1,15 +1,19 @@
 package com.portfolio.backend.controller.product;
 
 import com.portfolio.backend.common.security.UserDetailsImpl;
+import com.portfolio.backend.common.util.ConditionalRequestUtils;
+import com.portfolio.backend.service.common.dto.CursorPage;
 import com.portfolio.backend.service.product.ProductService;
 import com.portfolio.backend.service.product.dto.ProductServiceRequest;
 import com.portfolio.backend.service.product.dto.ProductServiceResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,13 +26,20 @@ public class ProductController {
     private final ProductService productService;
 
     @GetMapping
-    public List<ProductServiceResponse.SimpleGet> getProducts() {
-        return productService.getProducts();
+    public ResponseEntity<List<ProductServiceResponse.SimpleGet>> getProducts(WebRequest webRequest) {
+        return ConditionalRequestUtils.conditional(webRequest, productService.getProductsVersion(),
+                productService::getProducts);
+    }
+
+    @GetMapping("/cursor")
+    public CursorPage<ProductServiceResponse.SimpleGet> getProductPage(@Valid @ModelAttribute ProductServiceRequest.Search request) {
+        return productService.getProductPage(request);
     }
 
     @GetMapping("/{productId}")
-    public ProductServiceResponse.Get getProduct(@PathVariable Long productId) {
-        return productService.getProduct(productId);
+    public ResponseEntity<ProductServiceResponse.Get> getProduct(@PathVariable Long productId, WebRequest webRequest) {
+        return ConditionalRequestUtils.conditional(webRequest, productService.getProductVersion(productId),
+                () -> productService.getProduct(productId));
     }
 
     @PostMapping
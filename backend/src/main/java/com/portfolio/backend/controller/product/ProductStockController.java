@@ -25,4 +25,12 @@ public class ProductStockController {
                          @AuthenticationPrincipal UserDetailsImpl userDetails) {
         productStockService.adjustStock(productId, request);
     }
+
+    // 인기 상품의 재고를 여러 행으로 나눠 동시 판매 시 행 잠금 경합을 줄인다.
+    @PutMapping("/buckets")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void rebalanceStock(@PathVariable Long productId,
+                               @Valid @RequestBody ProductStockServiceRequest.Rebalance request) {
+        productStockService.rebalanceStock(productId, request);
+    }
 }
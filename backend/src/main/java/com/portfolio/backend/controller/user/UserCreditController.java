@@ -1,20 +1,23 @@
 package com.portfolio.backend.controller.user;
 
 import com.portfolio.backend.common.security.UserDetailsImpl;
+import com.portfolio.backend.service.common.dto.CursorPage;
 import com.portfolio.backend.service.user.UserCreditService;
 import com.portfolio.backend.service.user.dto.UserCreditServiceRequest;
 import com.portfolio.backend.service.user.dto.UserCreditServiceResponse.Get;
 import com.portfolio.backend.service.user.dto.UserCreditServiceResponse.GetHistoryPage;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/users/credits")
 @RequiredArgsConstructor
@@ -28,16 +31,28 @@ public class UserCreditController {
         return userCreditService.getCurrentCredit(userDetails.getId());
     }
 
+    // 락 충돌로 재시도하는 동안 요청 스레드를 반환하도록 비동기로 응답한다.
     @PostMapping
     @PreAuthorize("isAuthenticated()")
-    public void increase(@AuthenticationPrincipal UserDetailsImpl userDetails,
-                         @Valid @RequestBody UserCreditServiceRequest.Increase request) {
-        userCreditService.increase(userDetails.getId(), request);
+    public CompletableFuture<Void> increase(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                            @Valid @RequestBody UserCreditServiceRequest.Increase request) {
+        return userCreditService.increase(userDetails.getId(), request);
     }
 
+    // withTotal=false 면 count 쿼리 없이 Slice 로 응답한다.
     @GetMapping("/histoies/page")
-    public Page<GetHistoryPage> getHistoryPage(@AuthenticationPrincipal UserDetailsImpl userDetails,
-                                               @PageableDefault(sort = "id", direction = Sort.Direction.DESC)Pageable pageable) {
+    public Slice<GetHistoryPage> getHistoryPage(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                @PageableDefault(sort = "id", direction = Sort.Direction.DESC)Pageable pageable,
+                                                @RequestParam(defaultValue = "true") boolean withTotal) {
+        if (!withTotal) {
+            return userCreditService.getHistorySlice(userDetails.getId(), pageable);
+        }
         return userCreditService.getHistoryPage(userDetails.getId(), pageable);
     }
+
+    @GetMapping("/histories/cursor")
+    public CursorPage<GetHistoryPage> getHistoryCursorPage(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                           @Valid @ModelAttribute UserCreditServiceRequest.HistorySearch request) {
+        return userCreditService.getHistoryCursorPage(userDetails.getId(), request);
+    }
 }
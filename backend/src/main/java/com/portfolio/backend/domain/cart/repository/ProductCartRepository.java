@@ -2,12 +2,18 @@ package com.portfolio.backend.domain.cart.repository;
 
 import com.portfolio.backend.domain.cart.entity.ProductCart;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProductCartRepository extends JpaRepository<ProductCart, Long> {
 
     Optional<ProductCart> findByUserId(Long userId);
+
+    @Query("select i.product.id from ProductCart c join c.items i where c.user.id = :userId")
+    List<Long> findProductIdsByUserId(@Param("userId") Long userId);
 }
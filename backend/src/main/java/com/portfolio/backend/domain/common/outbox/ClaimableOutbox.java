@@ -0,0 +1,18 @@
+package com.portfolio.backend.domain.common.outbox;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 릴레이가 배치 단위로 선점(claim)할 수 있는 아웃박스 행
+ * claimedAt 은 선점 시각이며, claim-timeout 이 지나면 다른 인스턴스가 다시 선점할 수 있다.
+ * outboxStatus 가 바뀌면 이번 선점으로 할 일이 끝난 것이므로 claimedAt 을 비워 다음 단계가 바로 선점할 수 있게 한다.
+ */
+public interface ClaimableOutbox {
+
+    UUID getId();
+
+    LocalDateTime getClaimedAt();
+
+    void setClaimedAt(LocalDateTime claimedAt);
+}
@@ -1,79 +1,123 @@
 package com.portfolio.backend.domain.common.value;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.portfolio.backend.common.exception.DomainException;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Objects;
 
+/**
+ * 금액. 내부적으로는 소수점 둘째 자리까지를 정수(1/100 단위)로 들고 있어 덧셈·뺄셈·정수 곱셈에서 BigDecimal 을 만들지 않는다.
+ * JSON 과 DB 에는 지금처럼 scale 2 의 BigDecimal 로 나간다.
+ * 표현할 수 있는 최대 금액은 {@link #MAX_AMOUNT} 이고, 생성이나 연산 결과가 이를 넘으면 DomainException 이 발생한다.
+ * 요청 본문에서 생성될 때 넘으면 역직렬화 실패로 400 이 된다.
+ */
 public class Money {
-    private final BigDecimal amount;
+
+    private static final int SCALE = 2;
+    public static final BigDecimal MAX_AMOUNT = BigDecimal.valueOf(Long.MAX_VALUE, SCALE);
+    private static final String OUT_OF_RANGE = "금액이 허용 범위를 넘었습니다.";
+    private static final Money ZERO = new Money(0L);
+
+    // 1/100 단위 금액
+    private final long minorAmount;
 
     @JsonCreator
     public Money(BigDecimal amount) {
-        this.amount = Objects.requireNonNull(amount)
-                .setScale(2, RoundingMode.HALF_UP);
-        if (amount.compareTo(BigDecimal.ZERO) < 0) {
+        Objects.requireNonNull(amount);
+        if (amount.signum() < 0) {
+            throw new IllegalArgumentException("금액은 음수가 될 수 없습니다");
+        }
+        BigDecimal scaled = amount.setScale(SCALE, RoundingMode.HALF_UP);
+        if (scaled.compareTo(MAX_AMOUNT) > 0) {
+            throw new DomainException(OUT_OF_RANGE);
+        }
+        this.minorAmount = scaled.unscaledValue().longValue();
+    }
+
+    private Money(long minorAmount) {
+        if (minorAmount < 0) {
             throw new IllegalArgumentException("금액은 음수가 될 수 없습니다");
         }
+        this.minorAmount = minorAmount;
     }
 
     @JsonValue
     public BigDecimal getAmount() {
-        return amount;
+        return BigDecimal.valueOf(minorAmount, SCALE);
     }
 
     public boolean isZero() {
-        return amount.compareTo(BigDecimal.ZERO) == 0;
+        return minorAmount == 0;
     }
 
     public boolean isLessThanOrEqual(Money other) {
-        return this.amount.compareTo(other.amount) <= 0;
+        return this.minorAmount <= other.minorAmount;
     }
 
     public boolean isLessThan(Money other) {
-        return this.amount.compareTo(other.amount) < 0;
+        return this.minorAmount < other.minorAmount;
     }
 
     public boolean isGreaterThan(Money other) {
-        return this.amount.compareTo(other.amount) < 0;
+        return this.minorAmount < other.minorAmount;
     }
 
     public Money add(Money money) {
-        return new Money(this.amount.add(money.amount));
+        if (money.minorAmount == 0) {
+            return this;
+        }
+        try {
+            return new Money(Math.addExact(this.minorAmount, money.minorAmount));
+        } catch (ArithmeticException e) {
+            throw new DomainException(OUT_OF_RANGE, e);
+        }
     }
 
+    // 두 값 모두 0 이상이므로 뺄셈은 넘치지 않고, 음수 결과는 생성자에서 거절된다.
     public Money subtract(Money money) {
-        return new Money(this.amount.subtract(money.amount));
+        return new Money(this.minorAmount - money.minorAmount);
     }
 
     public Money multiply(BigDecimal multiplier) {
-        return new Money(this.amount.multiply(multiplier).setScale(2, RoundingMode.HALF_UP));
+        return new Money(getAmount().multiply(multiplier));
     }
 
     public Money multiply(int multiplier) {
-        return multiply(BigDecimal.valueOf(multiplier));
+        try {
+            return new Money(Math.multiplyExact(this.minorAmount, multiplier));
+        } catch (ArithmeticException e) {
+            throw new DomainException(OUT_OF_RANGE, e);
+        }
+    }
+
+    /**
+     * 더했을 때 최대 금액을 넘는지. 넘는 요청을 예외 대신 업무 규칙으로 거절할 때 쓴다.
+     */
+    public boolean exceedsMaxWhenAdded(Money money) {
+        return money.minorAmount > Long.MAX_VALUE - this.minorAmount;
     }
 
     public static Money zero() {
-        return new Money(BigDecimal.ZERO);
+        return ZERO;
     }
 
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
         Money money = (Money) o;
-        return Objects.equals(amount, money.amount);
+        return minorAmount == money.minorAmount;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(amount);
+        return Long.hashCode(minorAmount);
     }
 
     @Override
     public String toString() {
-        return amount.toString();
+        return getAmount().toString();
     }
 }
@@ -1,10 +1,22 @@
 package com.portfolio.backend.domain.introduction.repository;
 
 import com.portfolio.backend.domain.introduction.entity.Introduction;
+import com.portfolio.backend.domain.introduction.repository.dto.IntroductionVersionDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface IntroductionRepository extends JpaRepository<Introduction, Long> {
     Optional<Introduction> findFirstByOrderByUpdatedAtDesc();
+
+    // findFirstByOrderByUpdatedAtDesc 와 같은 행의 버전 컬럼만 조회한다.
+    @Query("""
+            select new com.portfolio.backend.domain.introduction.repository.dto.IntroductionVersionDto(i.id, i.createdAt, i.updatedAt)
+            from Introduction i
+            order by i.updatedAt desc
+            """)
+    List<IntroductionVersionDto> findVersionsOrderByUpdatedAtDesc(Pageable pageable);
 }
@@ -0,0 +1,15 @@
+package com.portfolio.backend.domain.introduction.repository.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class IntroductionVersionDto {
+
+    private Long introductionId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
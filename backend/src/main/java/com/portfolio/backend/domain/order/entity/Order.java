@@ -7,6 +7,7 @@ import com.portfolio.backend.common.exception.DomainException;
 import com.portfolio.backend.common.exception.UnprocessableEntityException;
 import com.portfolio.backend.domain.common.entity.AggregateRoot;
 import com.portfolio.backend.domain.common.value.Money;
+import com.portfolio.backend.domain.order.event.OrderStatusChangedEvent;
 import com.portfolio.backend.domain.order.value.DeliveryInfo;
 import com.portfolio.backend.domain.order.value.OrderItem;
 import com.portfolio.backend.domain.user.entity.User;
@@ -97,6 +98,8 @@ public class Order extends AggregateRoot {
             throw new DomainException("주문 상태가 올바르지 않습니다.");
         }
         this.orderStatus = OrderStatus.PAID;
+
+        registerStatusChangedEvent();
     }
 
     public void completedStockReduction() {
@@ -104,6 +107,8 @@ public class Order extends AggregateRoot {
             throw new DomainException("주문 상태가 올바르지 않습니다.");
         }
         this.orderStatus = OrderStatus.ORDERED;
+
+        registerStatusChangedEvent();
     }
 
     public void failed(String failReason) {
@@ -112,6 +117,8 @@ public class Order extends AggregateRoot {
         }
         this.orderStatus = OrderStatus.FAILED;
         this.failReason = failReason;
+
+        registerStatusChangedEvent();
     }
 
     public void canceling() {
@@ -119,6 +126,8 @@ public class Order extends AggregateRoot {
             throw new DomainException("주문 상태가 올바르지 않습니다.");
         }
         this.orderStatus = OrderStatus.CANCELING;
+
+        registerStatusChangedEvent();
     }
 
     public void cancel() {
@@ -126,6 +135,12 @@ public class Order extends AggregateRoot {
             throw new DomainException("주문 상태가 올바르지 않습니다.");
         }
         this.orderStatus = OrderStatus.CANCELLED;
+
+        registerStatusChangedEvent();
+    }
+
+    private void registerStatusChangedEvent() {
+        registerEvent(new OrderStatusChangedEvent(id, orderStatus, LocalDateTime.now()));
     }
 
     public List<OrderItem> getOrderItems() {
@@ -0,0 +1,62 @@
+package com.portfolio.backend.domain.order.entity;
+
+import com.portfolio.backend.common.config.converter.MoneyConverter;
+import com.portfolio.backend.common.exception.DomainException;
+import com.portfolio.backend.domain.common.value.Money;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주문 목록 조회용 읽기 모델. 배송 정보와 주문 상품을 JSON 으로 함께 저장해 order_items 를 읽지 않는다.
+ * 주문 생성 시 만들어지고, 이후에는 주문 상태만 바뀐다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "order_summaries")
+public class OrderSummary {
+
+    @Id
+    @Column(name = "order_id", columnDefinition = "UUID", nullable = false)
+    private UUID id;
+
+    @Column(nullable = false, updatable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderStatus orderStatus;
+
+    @Column(nullable = false, updatable = false)
+    @Convert(converter = MoneyConverter.class)
+    private Money totalPrice;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false, updatable = false)
+    private String detail;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public OrderSummary(UUID id, Long userId, OrderStatus orderStatus, Money totalPrice, String detail, LocalDateTime createdAt) {
+        if (id == null || userId == null || orderStatus == null || totalPrice == null || detail == null || createdAt == null) {
+            throw new DomainException("주문 요약 정보는 비어있을 수 없습니다.");
+        }
+
+        this.id = id;
+        this.userId = userId;
+        this.orderStatus = orderStatus;
+        this.totalPrice = totalPrice;
+        this.detail = detail;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,21 @@
+package com.portfolio.backend.domain.order.event;
+
+import com.portfolio.backend.domain.common.event.DomainEvent;
+import com.portfolio.backend.domain.order.entity.OrderStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+public class OrderStatusChangedEvent extends DomainEvent {
+
+    private final UUID orderId;
+    private final OrderStatus orderStatus;
+
+    public OrderStatusChangedEvent(UUID orderId, OrderStatus orderStatus, LocalDateTime transactionDateTime) {
+        super(transactionDateTime);
+        this.orderId = orderId;
+        this.orderStatus = orderStatus;
+    }
+}
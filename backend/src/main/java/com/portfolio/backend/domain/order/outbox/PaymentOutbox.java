@@ -1,5 +1,6 @@
 package com.portfolio.backend.domain.order.outbox;
 
+import com.portfolio.backend.domain.common.outbox.ClaimableOutbox;
 import com.portfolio.backend.domain.common.outbox.OutboxStatus;
 import com.portfolio.backend.domain.common.outbox.SagaStatus;
 import com.portfolio.backend.domain.common.outbox.SagaType;
@@ -17,7 +18,7 @@ import java.util.UUID;
 @Builder
 @Table(name = "payment_outbox")
 @Entity
-public class PaymentOutbox {
+public class PaymentOutbox implements ClaimableOutbox {
 
     @Id
     private UUID id;
@@ -37,6 +38,8 @@ public class PaymentOutbox {
 
     private LocalDateTime processedAt;
 
+    private LocalDateTime claimedAt;
+
     @Column(nullable = false)
     private String payload;
 
@@ -53,4 +56,9 @@ public class PaymentOutbox {
 
     @Version
     private int version;
+
+    public void setOutboxStatus(OutboxStatus outboxStatus) {
+        this.outboxStatus = outboxStatus;
+        this.claimedAt = null;
+    }
 }
@@ -1,5 +1,6 @@
 package com.portfolio.backend.domain.order.outbox;
 
+import com.portfolio.backend.domain.common.outbox.ClaimableOutbox;
 import com.portfolio.backend.domain.common.outbox.OutboxStatus;
 import com.portfolio.backend.domain.common.outbox.SagaStatus;
 import com.portfolio.backend.domain.common.outbox.SagaType;
@@ -17,7 +18,7 @@ import java.util.UUID;
 @Builder
 @Table(name = "product_stock_outbox")
 @Entity
-public class ProductStockOutbox {
+public class ProductStockOutbox implements ClaimableOutbox {
 
     @Id
     private UUID id;
@@ -37,6 +38,8 @@ public class ProductStockOutbox {
 
     private LocalDateTime processedAt;
 
+    private LocalDateTime claimedAt;
+
     @Column(nullable = false)
     private String payload;
 
@@ -53,4 +56,9 @@ public class ProductStockOutbox {
 
     @Version
     private int version;
+
+    public void setOutboxStatus(OutboxStatus outboxStatus) {
+        this.outboxStatus = outboxStatus;
+        this.claimedAt = null;
+    }
 }
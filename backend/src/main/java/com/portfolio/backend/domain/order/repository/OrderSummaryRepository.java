@@ -0,0 +1,23 @@
+package com.portfolio.backend.domain.order.repository;
+
+import com.portfolio.backend.domain.order.entity.OrderStatus;
+import com.portfolio.backend.domain.order.entity.OrderSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, UUID> {
+
+    Page<OrderSummary> findAllByUserId(Long userId, Pageable pageable);
+
+    @Modifying
+    @Query("update OrderSummary s set s.orderStatus = :orderStatus where s.id = :orderId")
+    int updateOrderStatus(@Param("orderId") UUID orderId, @Param("orderStatus") OrderStatus orderStatus);
+}
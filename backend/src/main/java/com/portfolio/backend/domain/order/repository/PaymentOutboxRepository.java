@@ -4,9 +4,19 @@ import com.portfolio.backend.domain.common.outbox.SagaType;
 import com.portfolio.backend.domain.order.outbox.PaymentOutbox;
 import com.portfolio.backend.domain.common.outbox.OutboxStatus;
 import com.portfolio.backend.domain.common.outbox.SagaStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,6 +25,61 @@ import java.util.UUID;
 public interface PaymentOutboxRepository extends JpaRepository<PaymentOutbox, UUID> {
 
     Optional<PaymentOutbox> findBySagaIdAndOutboxStatus(UUID sagaId, OutboxStatus outboxStatus);
-    Optional<List<PaymentOutbox>> findAllBySagaTypeAndOutboxStatusIsNull(SagaType sagaType);
-    Optional<List<PaymentOutbox>> findAllBySagaStatusAndOutboxStatus(SagaStatus sagaStatus, OutboxStatus outboxStatus);
+
+    // lock.timeout -2 : FOR UPDATE SKIP LOCKED
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select p from PaymentOutbox p
+            where p.sagaType = :sagaType
+              and p.outboxStatus is null
+              and (p.claimedAt is null or p.claimedAt < :claimExpiredAt)
+            order by p.createdAt
+            """)
+    List<PaymentOutbox> findClaimableBySagaType(@Param("sagaType") SagaType sagaType,
+                                                @Param("claimExpiredAt") LocalDateTime claimExpiredAt,
+                                                Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select p from PaymentOutbox p
+            where p.sagaStatus = :sagaStatus
+              and p.outboxStatus = :outboxStatus
+              and (p.claimedAt is null or p.claimedAt < :claimExpiredAt)
+            order by p.createdAt
+            """)
+    List<PaymentOutbox> findClaimableBySagaStatusAndOutboxStatus(@Param("sagaStatus") SagaStatus sagaStatus,
+                                                                 @Param("outboxStatus") OutboxStatus outboxStatus,
+                                                                 @Param("claimExpiredAt") LocalDateTime claimExpiredAt,
+                                                                 Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update PaymentOutbox p set p.claimedAt = :claimedAt where p.id in :ids")
+    int markClaimed(@Param("ids") Collection<UUID> ids, @Param("claimedAt") LocalDateTime claimedAt);
+
+    // claimedAt 으로 선점한 행이 아직 그 선점 그대로일 때만 선점을 늘린다. 0 이면 만료되어 다른 인스턴스가 다시 선점한 행이다.
+    @Modifying(clearAutomatically = true)
+    @Query("update PaymentOutbox p set p.claimedAt = :extendedAt where p.id = :id and p.claimedAt = :claimedAt")
+    int extendClaim(@Param("id") UUID id, @Param("claimedAt") LocalDateTime claimedAt, @Param("extendedAt") LocalDateTime extendedAt);
+
+    // 처리가 끝난 오래된 행을 batchSize 만큼 보관 테이블로 옮기고 옮긴 행 수를 반환한다.
+    // 보관 테이블은 원본 컬럼 뒤에 archived_at 을 덧붙인 것이라 컬럼 순서에 기대지 않도록 이름으로 옮긴다.
+    @Modifying
+    @Query(value = """
+            WITH archived AS (
+                DELETE FROM payment_outbox
+                WHERE id IN (
+                    SELECT id FROM payment_outbox
+                    WHERE outbox_status IN ('COMPLETED', 'FAILED')
+                      AND saga_status IN ('SUCCEEDED', 'FAILED', 'COMPENSATED')
+                      AND created_at < :cutoff
+                    ORDER BY created_at
+                    LIMIT :batchSize
+                    FOR UPDATE SKIP LOCKED)
+                RETURNING id, order_id, saga_id, saga_type, version, order_status, outbox_status, saga_status, payload, created_at, processed_at, claimed_at)
+            INSERT INTO payment_outbox_archive (id, order_id, saga_id, saga_type, version, order_status, outbox_status, saga_status, payload, created_at, processed_at, claimed_at, archived_at)
+            SELECT id, order_id, saga_id, saga_type, version, order_status, outbox_status, saga_status, payload, created_at, processed_at, claimed_at, now() FROM archived
+            """, nativeQuery = true)
+    int archiveFinished(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
 }
@@ -3,9 +3,19 @@ package com.portfolio.backend.domain.order.repository;
 import com.portfolio.backend.domain.common.outbox.SagaType;
 import com.portfolio.backend.domain.order.outbox.ProductStockOutbox;
 import com.portfolio.backend.domain.common.outbox.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,5 +25,46 @@ public interface ProductStockOutboxRepository extends JpaRepository<ProductStock
 
     Optional<ProductStockOutbox> findBySagaIdAndOutboxStatus(UUID sagaId, OutboxStatus outboxStatus);
 
-    Optional<List<ProductStockOutbox>> findAllBySagaTypeAndOutboxStatusIsNull(SagaType sagaType);
+    // lock.timeout -2 : FOR UPDATE SKIP LOCKED
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select p from ProductStockOutbox p
+            where p.sagaType = :sagaType
+              and p.outboxStatus is null
+              and (p.claimedAt is null or p.claimedAt < :claimExpiredAt)
+            order by p.createdAt
+            """)
+    List<ProductStockOutbox> findClaimableBySagaType(@Param("sagaType") SagaType sagaType,
+                                                     @Param("claimExpiredAt") LocalDateTime claimExpiredAt,
+                                                     Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update ProductStockOutbox p set p.claimedAt = :claimedAt where p.id in :ids")
+    int markClaimed(@Param("ids") Collection<UUID> ids, @Param("claimedAt") LocalDateTime claimedAt);
+
+    // claimedAt 으로 선점한 행이 아직 그 선점 그대로일 때만 선점을 늘린다. 0 이면 만료되어 다른 인스턴스가 다시 선점한 행이다.
+    @Modifying(clearAutomatically = true)
+    @Query("update ProductStockOutbox p set p.claimedAt = :extendedAt where p.id = :id and p.claimedAt = :claimedAt")
+    int extendClaim(@Param("id") UUID id, @Param("claimedAt") LocalDateTime claimedAt, @Param("extendedAt") LocalDateTime extendedAt);
+
+    // 처리가 끝난 오래된 행을 batchSize 만큼 보관 테이블로 옮기고 옮긴 행 수를 반환한다.
+    // 보관 테이블은 원본 컬럼 뒤에 archived_at 을 덧붙인 것이라 컬럼 순서에 기대지 않도록 이름으로 옮긴다.
+    @Modifying
+    @Query(value = """
+            WITH archived AS (
+                DELETE FROM product_stock_outbox
+                WHERE id IN (
+                    SELECT id FROM product_stock_outbox
+                    WHERE outbox_status IN ('COMPLETED', 'FAILED')
+                      AND saga_status IN ('SUCCEEDED', 'FAILED', 'COMPENSATED')
+                      AND created_at < :cutoff
+                    ORDER BY created_at
+                    LIMIT :batchSize
+                    FOR UPDATE SKIP LOCKED)
+                RETURNING id, order_id, saga_id, saga_type, version, order_status, outbox_status, saga_status, payload, created_at, processed_at, claimed_at)
+            INSERT INTO product_stock_outbox_archive (id, order_id, saga_id, saga_type, version, order_status, outbox_status, saga_status, payload, created_at, processed_at, claimed_at, archived_at)
+            SELECT id, order_id, saga_id, saga_type, version, order_status, outbox_status, saga_status, payload, created_at, processed_at, claimed_at, now() FROM archived
+            """, nativeQuery = true)
+    int archiveFinished(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
 }
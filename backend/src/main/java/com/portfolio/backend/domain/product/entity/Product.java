@@ -10,6 +10,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -21,6 +22,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Table(name = "products")
+// 조각 재고는 상품 행을 잠근 뒤 상태만 바꾸므로, 잠그기 전에 읽은 다른 컬럼을 덮어쓰지 않게 바뀐 컬럼만 갱신한다.
+@DynamicUpdate
 @EntityListeners(AuditingEntityListener.class)
 public class Product extends AggregateRoot {
 
@@ -121,12 +124,13 @@ public class Product extends AggregateRoot {
 		validation();
 	}
 
+	// 재고 행이 없는 상품도 목록에는 나오므로 재고 0 으로 본다.
 	public Integer getStockQuantity() {
-		return this.stock.getQuantity();
+		return this.stock == null ? 0 : this.stock.getQuantity();
 	}
 
 	public boolean isAvailable() {
-		return status == ProductStatus.ACTIVE && stock.isAvailable();
+		return status == ProductStatus.ACTIVE && stock != null && stock.isAvailable();
 	}
 
 	public void active() {
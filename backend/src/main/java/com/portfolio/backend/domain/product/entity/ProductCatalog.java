@@ -0,0 +1,33 @@
+package com.portfolio.backend.domain.product.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 목록 전체를 나타내는 한 행. 목록을 바꾸는 쓰기마다 version 을 올려 조건부 GET 검증자로 쓴다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "product_catalog")
+public class ProductCatalog {
+
+	public static final long ID = 1L;
+
+	@Id
+	private Long id;
+
+	@Column(nullable = false)
+	private long version;
+
+	public static ProductCatalog create() {
+		ProductCatalog catalog = new ProductCatalog();
+		catalog.id = ID;
+		return catalog;
+	}
+}
@@ -8,11 +8,15 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -21,6 +25,9 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class ProductStock extends AggregateRoot {
 
+	// 판매 폭주 시 대부분의 요청이 여기서 거절되므로 스택 트레이스 없는 예외를 재사용한다.
+	public static final UnprocessableEntityException OUT_OF_STOCK = UnprocessableEntityException.rejection("재고가 부족합니다.");
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
@@ -32,6 +39,16 @@ public class ProductStock extends AggregateRoot {
 	@Column(nullable = false)
 	private Integer quantity;
 
+	// 0 이면 이 행 하나로 재고를 관리한다. 1 이상이면 재고는 조각 행에 나뉘어 있고 quantity 는 0 이다.
+	@Column(nullable = false)
+	private int bucketCount;
+
+	@Getter(AccessLevel.NONE)
+	@BatchSize(size = 100)
+	@OrderBy("bucketNo")
+	@OneToMany(mappedBy = "productStock", cascade = CascadeType.ALL, orphanRemoval = true)
+	private List<ProductStockBucket> buckets = new ArrayList<>();
+
 	@Version
 	private int version;
 
@@ -53,8 +70,23 @@ public class ProductStock extends AggregateRoot {
 		this.quantity = quantity;
 	}
 
+	/**
+	 * 조각으로 나뉜 재고는 조각 수량을 합산한다. 잠그지 않은 조각은 읽는 시점의 값이므로,
+	 * 모든 조각을 잠그지 않았다면 상태 판정이나 이력에 쓰지 않는다.
+	 */
+	public Integer getQuantity() {
+		if (!isSharded()) {
+			return quantity;
+		}
+		return quantity + buckets.stream().mapToInt(ProductStockBucket::getQuantity).sum();
+	}
+
 	public boolean isAvailable() {
-		return quantity > 0;
+		return getQuantity() > 0;
+	}
+
+	public boolean isSharded() {
+		return bucketCount > 0;
 	}
 
 	public void increase(int amount, StockChangeReason reason) {
@@ -72,35 +104,137 @@ public class ProductStock extends AggregateRoot {
 		int previousQuantity = this.quantity;
 
 		if (this.quantity < amount) {
-			throw new UnprocessableEntityException("재고가 부족합니다.");
+			throw OUT_OF_STOCK;
 		}
 		this.quantity -= amount;
 
 		registerStockChangedEvent(previousQuantity, -amount, reason);
 	}
 
+	/**
+	 * 조각으로 나뉜 재고는 모든 조각을 잠근 뒤 호출해야 한다.
+	 */
 	public void adjust(int amount, String memo) {
-		int previousQuantity = this.quantity;
+		int previousQuantity = getQuantity();
 
 		if (amount < 0) {
 			throw new UnprocessableEntityException("재고는 0보다 작을 수 없습니다.");
 		}
-		this.quantity = amount;
+		if (isSharded()) {
+			this.quantity = 0;
+			distribute(amount);
+		} else {
+			this.quantity = amount;
+		}
 
 		registerStockChangedEvent(previousQuantity, amount - previousQuantity, StockChangeReason.ADJUSTMENT, memo);
 	}
 
+	/**
+	 * 잠근 조각 하나에서 차감한다. 이 재고 행과 다른 조각은 잠그지 않으므로 이력은 조각 기준으로 남긴다.
+	 */
+	public void decrease(ProductStockBucket bucket, int amount, StockChangeReason reason) {
+		validateBucket(bucket);
+		int previousQuantity = bucket.getQuantity();
+
+		bucket.decrease(amount);
+
+		registerStockChangedEvent(previousQuantity, -amount, reason, null, bucket.getBucketNo());
+	}
+
+	/**
+	 * 조각 하나로 부족할 때 쓴다. 모든 조각을 잠근 뒤 조각 순서대로 나눠 차감한다.
+	 */
+	public void decreaseAcrossBuckets(int amount, StockChangeReason reason) {
+		int previousQuantity = getQuantity();
+
+		if (previousQuantity < amount) {
+			throw OUT_OF_STOCK;
+		}
+		int remaining = amount;
+		for (ProductStockBucket bucket : buckets) {
+			int taken = Math.min(bucket.getQuantity(), remaining);
+			bucket.decrease(taken);
+			remaining -= taken;
+			if (remaining == 0) {
+				break;
+			}
+		}
+		this.quantity -= remaining;
+
+		registerStockChangedEvent(previousQuantity, -amount, reason);
+	}
+
+	public void increase(ProductStockBucket bucket, int amount, StockChangeReason reason) {
+		validateBucket(bucket);
+		if (amount < 0) {
+			throw new UnprocessableEntityException("증가시킬 수량은 음수일 수 없습니다: " + amount);
+		}
+		int previousQuantity = bucket.getQuantity();
+
+		bucket.increase(amount);
+
+		registerStockChangedEvent(previousQuantity, amount, reason, null, bucket.getBucketNo());
+	}
+
+	/**
+	 * 재고를 bucketCount 개의 조각에 고르게 다시 나눈다. 0 이면 조각을 없애고 이 행 하나로 되돌린다.
+	 * 총 수량은 바뀌지 않으므로 재고 변경 이벤트를 남기지 않는다. 모든 조각을 잠근 뒤 호출해야 한다.
+	 */
+	public void rebalance(int bucketCount) {
+		if (bucketCount < 0) {
+			throw new DomainException("재고 조각 수는 0보다 작을 수 없습니다.");
+		}
+		int total = getQuantity();
+
+		if (bucketCount == 0) {
+			this.buckets.clear();
+			this.bucketCount = 0;
+			this.quantity = total;
+			return;
+		}
+
+		while (buckets.size() > bucketCount) {
+			buckets.remove(buckets.size() - 1);
+		}
+		while (buckets.size() < bucketCount) {
+			buckets.add(new ProductStockBucket(this, product.getId(), buckets.size()));
+		}
+		this.bucketCount = bucketCount;
+		this.quantity = 0;
+		distribute(total);
+	}
+
+	private void distribute(int total) {
+		int size = buckets.size();
+		for (int i = 0; i < size; i++) {
+			buckets.get(i).assign(total / size + (i < total % size ? 1 : 0));
+		}
+	}
+
+	private void validateBucket(ProductStockBucket bucket) {
+		// 조각이 가리키는 재고는 프록시일 수 있으므로 id 로 비교한다.
+		if (!Objects.equals(bucket.getProductStock().getId(), this.id)) {
+			throw new DomainException("다른 상품의 재고 조각입니다.");
+		}
+	}
+
 	private void registerStockChangedEvent(int previousQuantity, int changedQuantity, StockChangeReason reason) {
 		registerStockChangedEvent(previousQuantity, changedQuantity, reason, null);
 	}
 
 	private void registerStockChangedEvent(int previousQuantity, int changedQuantity, StockChangeReason reason, String memo) {
+		registerStockChangedEvent(previousQuantity, changedQuantity, reason, memo, null);
+	}
+
+	private void registerStockChangedEvent(int previousQuantity, int changedQuantity, StockChangeReason reason, String memo, Integer bucketNo) {
 		registerEvent(ProductStockChangedEvent.builder()
 				.product(product)
 				.previousQuantity(previousQuantity)
 				.changedQuantity(changedQuantity)
 				.memo(memo)
 				.reason(reason)
+				.bucketNo(bucketNo)
 				.transactionDateTime(LocalDateTime.now())
 				.build());
 	}
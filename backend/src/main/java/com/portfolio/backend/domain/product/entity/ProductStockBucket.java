@@ -0,0 +1,82 @@
+package com.portfolio.backend.domain.product.entity;
+
+import com.portfolio.backend.common.exception.DomainException;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 상품의 재고를 여러 행으로 나눈 조각. 판매는 조각 하나만 잠그므로 동시 판매가 조각 수만큼 나뉘어 처리된다.
+ * 수량 변경은 항상 {@link ProductStock} 을 통해서만 한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "product_stock_buckets",
+		uniqueConstraints = @UniqueConstraint(name = "uk_product_stock_buckets_product_bucket", columnNames = {"product_id", "bucket_no"}))
+@EntityListeners(AuditingEntityListener.class)
+public class ProductStockBucket {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "product_stock_id", nullable = false)
+	private ProductStock productStock;
+
+	// 잠금 쿼리가 product_stocks 를 조인하지 않도록 상품 id 를 함께 둔다.
+	@Column(name = "product_id", nullable = false)
+	private Long productId;
+
+	@Column(nullable = false)
+	private Integer bucketNo;
+
+	@Column(nullable = false)
+	private Integer quantity;
+
+	@Version
+	private int version;
+
+	@CreatedDate
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	@LastModifiedDate
+	private LocalDateTime updatedAt;
+
+	ProductStockBucket(ProductStock productStock, Long productId, int bucketNo) {
+		if (productStock == null || productId == null) {
+			throw new DomainException("재고 조각의 재고와 상품은 null일 수 없습니다.");
+		}
+		this.productStock = productStock;
+		this.productId = productId;
+		this.bucketNo = bucketNo;
+		this.quantity = 0;
+	}
+
+	boolean canDecrease(int amount) {
+		return quantity >= amount;
+	}
+
+	void increase(int amount) {
+		this.quantity += amount;
+	}
+
+	void decrease(int amount) {
+		if (this.quantity < amount) {
+			throw ProductStock.OUT_OF_STOCK;
+		}
+		this.quantity -= amount;
+	}
+
+	void assign(int quantity) {
+		this.quantity = quantity;
+	}
+}
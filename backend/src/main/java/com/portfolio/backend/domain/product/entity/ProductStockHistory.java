@@ -17,8 +17,10 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class ProductStockHistory {
 
+	// IDENTITY 는 INSERT 마다 키를 받아와야 해서 JDBC 배치가 꺼진다. 시퀀스를 50 단위로 미리 할당한다.
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_histories_id_seq")
+	@SequenceGenerator(name = "stock_histories_id_seq", sequenceName = "stock_histories_id_seq", allocationSize = 50)
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -45,13 +47,18 @@ public class ProductStockHistory {
 	@Column(length = 500)
 	private String memo;
 
+	// 조각 하나를 잠그고 바꾼 이력이면 조각 번호. 이때 수량들은 그 조각 기준이다.
+	// 다른 조각은 잠그지 않으므로 상품 전체 수량을 남기면 동시에 바뀐 값이 빠진다.
+	private Integer bucketNo;
+
 	@Builder
-	public ProductStockHistory(Product product, int previous, int changed, StockChangeReason reason, String memo) {
+	public ProductStockHistory(Product product, int previous, int changed, StockChangeReason reason, String memo, Integer bucketNo) {
 		this.product = product;
 		this.previousQuantity = previous;
 		this.changedQuantity = changed;
 		this.currentQuantity = previous + changed;
 		this.reason = reason;
 		this.memo = memo;
+		this.bucketNo = bucketNo;
 	}
 }
\ No newline at end of file
@@ -16,14 +16,18 @@ public class ProductStockChangedEvent extends DomainEvent {
     private final int changedQuantity;
     private final StockChangeReason reason;
     private final String memo;
+    // null 이면 수량은 상품 전체 기준이고, 값이 있으면 잠근 조각 하나의 수량이다.
+    private final Integer bucketNo;
 
     @Builder
-    public ProductStockChangedEvent(Product product, int previousQuantity, int changedQuantity, StockChangeReason reason, String memo, LocalDateTime transactionDateTime) {
+    public ProductStockChangedEvent(Product product, int previousQuantity, int changedQuantity, StockChangeReason reason, String memo,
+                                    Integer bucketNo, LocalDateTime transactionDateTime) {
         super(transactionDateTime);
         this.product = product;
         this.previousQuantity = previousQuantity;
         this.changedQuantity = changedQuantity;
         this.reason = reason;
         this.memo = memo;
+        this.bucketNo = bucketNo;
     }
 }
@@ -1,6 +1,7 @@
 package com.portfolio.backend.domain.product.outbox;
 
 import com.portfolio.backend.common.event.ProductStockStatus;
+import com.portfolio.backend.domain.common.outbox.ClaimableOutbox;
 import com.portfolio.backend.domain.common.outbox.OutboxStatus;
 import jakarta.persistence.*;
 import lombok.*;
@@ -16,7 +17,7 @@ import java.util.UUID;
 @Builder
 @Table(name = "product_stock_reduction_outbox")
 @Entity
-public class ProductStockOrderOutbox {
+public class ProductStockOrderOutbox implements ClaimableOutbox {
 
     @Id
     private UUID id;
@@ -32,6 +33,8 @@ public class ProductStockOrderOutbox {
 
     private LocalDateTime processedAt;
 
+    private LocalDateTime claimedAt;
+
     @Column(nullable = false)
     private String payload;
 
@@ -44,6 +47,11 @@ public class ProductStockOrderOutbox {
     @Version
     private int version;
 
+    public void setOutboxStatus(OutboxStatus outboxStatus) {
+        this.outboxStatus = outboxStatus;
+        this.claimedAt = null;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
@@ -0,0 +1,21 @@
+package com.portfolio.backend.domain.product.repository;
+
+import com.portfolio.backend.domain.product.entity.ProductCatalog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ProductCatalogRepository extends JpaRepository<ProductCatalog, Long> {
+
+    // 상품 목록 버전. 카탈로그를 집계하지 않고 한 행만 읽는다.
+    @Query("select c.version from ProductCatalog c where c.id = 1")
+    Optional<Long> findVersion();
+
+    @Modifying
+    @Query("update ProductCatalog c set c.version = c.version + 1 where c.id = 1")
+    int incrementVersion();
+}
@@ -1,10 +1,18 @@
 package com.portfolio.backend.domain.product.repository;
 
 import com.portfolio.backend.domain.product.entity.Product;
+import com.portfolio.backend.domain.product.entity.ProductCategory;
 import com.portfolio.backend.domain.product.entity.ProductStatus;
+import com.portfolio.backend.domain.product.service.dto.ProductVersionDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +20,60 @@ import java.util.Optional;
 public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findAllByStatusNot(ProductStatus status);
     Optional<Product> findByIdAndStatusNot(Long id, ProductStatus status);
+
+    // stock 은 mappedBy 쪽 OneToOne 이라 지연 로딩되지 않으므로, 함께 조회하지 않으면 상품마다 재고 조회가 추가된다.
+    // 재고 행이 없는 상품이 목록에서 빠지지 않도록 외부 조인으로 가져온다.
+    @Query("select p from Product p left join fetch p.stock where p.status <> :status")
+    List<Product> findAllWithStockByStatusNot(@Param("status") ProductStatus status);
+
+    @Query("select p from Product p left join fetch p.stock where p.id = :id and p.status <> :status")
+    Optional<Product> findWithStockByIdAndStatusNot(@Param("id") Long id, @Param("status") ProductStatus status);
+
+    // 조건부 GET 검증용. 상품 그래프를 읽지 않고 버전 컬럼만 조회한다.
+    @Query("""
+            select new com.portfolio.backend.domain.product.service.dto.ProductVersionDto(p.id, p.updatedAt, s.version, s.updatedAt,
+                (select coalesce(sum(b.version), 0L) from ProductStockBucket b where b.productId = p.id),
+                (select max(b.updatedAt) from ProductStockBucket b where b.productId = p.id))
+            from Product p join p.stock s
+            where p.id = :id and p.status <> :status
+            """)
+    Optional<ProductVersionDto> findVersionByIdAndStatusNot(@Param("id") Long id, @Param("status") ProductStatus status);
+
+    // 키셋 페이지네이션: id 역순으로 커서(마지막으로 받은 id) 이후 행만 읽는다.
+    // 삭제 조건을 리터럴로 두어야 부분 인덱스(status <> 'DELETED')가 쓰이고, 카테고리 유무는 인덱스가 달라 쿼리를 나눈다.
+    @Query("""
+            select p from Product p left join fetch p.stock
+            where p.status <> com.portfolio.backend.domain.product.entity.ProductStatus.DELETED
+              and (:status is null or p.status = :status)
+              and p.id < :cursor
+            order by p.id desc
+            """)
+    List<Product> findPageWithStock(@Param("status") ProductStatus status,
+                                    @Param("cursor") long cursor,
+                                    Pageable pageable);
+
+    @Query("""
+            select p from Product p left join fetch p.stock
+            where p.status <> com.portfolio.backend.domain.product.entity.ProductStatus.DELETED
+              and p.category = :category
+              and (:status is null or p.status = :status)
+              and p.id < :cursor
+            order by p.id desc
+            """)
+    List<Product> findPageWithStockByCategory(@Param("category") ProductCategory category,
+                                              @Param("status") ProductStatus status,
+                                              @Param("cursor") long cursor,
+                                              Pageable pageable);
+
+    @Query("select p from Product p left join fetch p.stock where p.id in :ids")
+    List<Product> findAllWithStockByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 조각 재고의 상태 판정 순서를 정하는 잠금. 이미 읽은 엔티티는 갱신되지 않으므로 현재 상태 값을 함께 읽는다.
+    @Query(value = "select status from products where id = :id for update", nativeQuery = true)
+    String findLockedStatusById(@Param("id") Long id);
+
+    // 상태만 바꾼다. 엔티티로 저장하면 잠그기 전에 읽은 다른 컬럼까지 덮어쓴다.
+    @Modifying
+    @Query("update Product p set p.status = :status, p.updatedAt = :updatedAt where p.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") ProductStatus status, @Param("updatedAt") LocalDateTime updatedAt);
 }
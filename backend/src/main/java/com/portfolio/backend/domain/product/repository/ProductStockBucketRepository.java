@@ -0,0 +1,46 @@
+package com.portfolio.backend.domain.product.repository;
+
+import com.portfolio.backend.domain.product.entity.ProductStockBucket;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProductStockBucketRepository extends JpaRepository<ProductStockBucket, Long> {
+
+    // 다른 트랜잭션이 잠근 조각은 기다리지 않고 건너뛴다(lock.timeout -2 = SKIP LOCKED).
+    // preferred 조각부터 순환하며 수량이 충분한 조각 하나를 고르므로 동시 판매가 조각마다 흩어진다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select b from ProductStockBucket b
+            where b.productId = :productId and b.quantity >= :quantity
+            order by mod(b.bucketNo + :bucketCount - :preferred, :bucketCount)
+            """)
+    List<ProductStockBucket> findAvailableSkipLocked(@Param("productId") Long productId,
+                                                     @Param("quantity") int quantity,
+                                                     @Param("preferred") int preferred,
+                                                     @Param("bucketCount") int bucketCount,
+                                                     Pageable pageable);
+
+    // 조각 여러 개에 걸쳐 차감하거나 재분배할 때. 교착을 피하려고 항상 조각 번호 순서로 잠근다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from ProductStockBucket b where b.productId = :productId order by b.bucketNo")
+    List<ProductStockBucket> findAllLockedByProductId(@Param("productId") Long productId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ProductStockBucket> findLockedByProductIdAndBucketNo(Long productId, Integer bucketNo);
+
+    // 조회 전에 현재 트랜잭션의 조각 변경이 flush 되므로 내 변경과 다른 트랜잭션이 커밋한 값을 합산한다.
+    @Query("select coalesce(sum(b.quantity), 0L) from ProductStockBucket b where b.productId = :productId")
+    long sumQuantityByProductId(@Param("productId") Long productId);
+}
@@ -3,9 +3,19 @@ package com.portfolio.backend.domain.product.repository;
 import com.portfolio.backend.common.event.ProductStockStatus;
 import com.portfolio.backend.domain.product.outbox.ProductStockOrderOutbox;
 import com.portfolio.backend.domain.common.outbox.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,8 +25,67 @@ public interface ProductStockOrderOutboxRepository extends JpaRepository<Product
 
     Optional<ProductStockOrderOutbox> findBySagaIdAndOutboxStatus(UUID sagaId, OutboxStatus outboxStatus);
 
-    Optional<List<ProductStockOrderOutbox>> findAllByOutboxStatusIsNull();
+    // lock.timeout -2 : FOR UPDATE SKIP LOCKED
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select p from ProductStockOrderOutbox p
+            where p.outboxStatus is null
+              and (p.claimedAt is null or p.claimedAt < :claimExpiredAt)
+            order by p.createdAt
+            """)
+    List<ProductStockOrderOutbox> findClaimable(@Param("claimExpiredAt") LocalDateTime claimExpiredAt,
+                                                Pageable pageable);
 
-    Optional<List<ProductStockOrderOutbox>> findAllByOutboxStatusAndProductStockStatus(OutboxStatus outboxStatus, ProductStockStatus productStockStatus);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select p from ProductStockOrderOutbox p
+            where p.outboxStatus = :outboxStatus
+              and p.productStockStatus = :productStockStatus
+              and (p.claimedAt is null or p.claimedAt < :claimExpiredAt)
+            order by p.createdAt
+            """)
+    List<ProductStockOrderOutbox> findClaimableByOutboxStatusAndProductStockStatus(@Param("outboxStatus") OutboxStatus outboxStatus,
+                                                                                   @Param("productStockStatus") ProductStockStatus productStockStatus,
+                                                                                   @Param("claimExpiredAt") LocalDateTime claimExpiredAt,
+                                                                                   Pageable pageable);
 
+    @Modifying(clearAutomatically = true)
+    @Query("update ProductStockOrderOutbox p set p.claimedAt = :claimedAt where p.id in :ids")
+    int markClaimed(@Param("ids") Collection<UUID> ids, @Param("claimedAt") LocalDateTime claimedAt);
+
+    // claimedAt 으로 선점한 행이 아직 그 선점 그대로일 때만 선점을 늘린다. 0 이면 만료되어 다른 인스턴스가 다시 선점한 행이다.
+    @Modifying(clearAutomatically = true)
+    @Query("update ProductStockOrderOutbox p set p.claimedAt = :extendedAt where p.id = :id and p.claimedAt = :claimedAt")
+    int extendClaim(@Param("id") UUID id, @Param("claimedAt") LocalDateTime claimedAt, @Param("extendedAt") LocalDateTime extendedAt);
+
+    // 처리가 끝난 오래된 행을 batchSize 만큼 보관 테이블로 옮기고 옮긴 행 수를 반환한다.
+    // 보관 테이블은 원본 컬럼 뒤에 archived_at 을 덧붙인 것이라 컬럼 순서에 기대지 않도록 이름으로 옮긴다.
+    // 보상 단계에서 완료된 참여자 행을 saga_id 로 다시 읽으므로 사가가 종료된 행만 옮긴다.
+    // 오케스트레이터 행은 사가가 종료된 뒤에만 보관되므로, 원본 테이블에 진행 중인 행이 없으면 사가가 끝난 것이다.
+    @Modifying
+    @Query(value = """
+            WITH archived AS (
+                DELETE FROM product_stock_reduction_outbox
+                WHERE id IN (
+                    SELECT r.id FROM product_stock_reduction_outbox r
+                    WHERE r.outbox_status IN ('COMPLETED', 'FAILED')
+                      AND r.created_at < :cutoff
+                      AND NOT EXISTS (
+                          SELECT 1 FROM payment_outbox p
+                          WHERE p.saga_id = r.saga_id
+                            AND p.saga_status NOT IN ('SUCCEEDED', 'FAILED', 'COMPENSATED'))
+                      AND NOT EXISTS (
+                          SELECT 1 FROM product_stock_outbox s
+                          WHERE s.saga_id = r.saga_id
+                            AND s.saga_status NOT IN ('SUCCEEDED', 'FAILED', 'COMPENSATED'))
+                    ORDER BY r.created_at
+                    LIMIT :batchSize
+                    FOR UPDATE OF r SKIP LOCKED)
+                RETURNING id, order_id, saga_id, version, outbox_status, product_stock_status, payload, created_at, processed_at, claimed_at)
+            INSERT INTO product_stock_reduction_outbox_archive (id, order_id, saga_id, version, outbox_status, product_stock_status, payload, created_at, processed_at, claimed_at, archived_at)
+            SELECT id, order_id, saga_id, version, outbox_status, product_stock_status, payload, created_at, processed_at, claimed_at, now() FROM archived
+            """, nativeQuery = true)
+    int archiveFinished(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
 }
@@ -1,12 +1,17 @@
 package com.portfolio.backend.domain.product.repository;
 
 import com.portfolio.backend.domain.product.entity.ProductStock;
+import com.portfolio.backend.domain.product.service.dto.ProductStockItemDto;
+import com.portfolio.backend.domain.product.service.dto.ProductStockShardDto;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,5 +20,38 @@ public interface ProductStockRepository extends JpaRepository<ProductStock, Long
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<ProductStock> findLockedByProductId(Long productId);
 
+    // 여러 주문이 같은 상품을 다른 순서로 담아도 교착되지 않도록 항상 product_id 순서로 잠근다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select s from ProductStock s
+            where s.product.id in :productIds
+            order by s.product.id
+            """)
+    List<ProductStock> findAllLockedByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
     Optional<ProductStock> findByProductId(Long productId);
+
+    // 조각으로 나뉜 재고는 조각 수량까지 합산한다.
+    @Query("""
+            select new com.portfolio.backend.domain.product.service.dto.ProductStockItemDto(s.product.id,
+                cast(s.quantity + coalesce((select sum(b.quantity) from ProductStockBucket b where b.productStock = s), 0) as Integer))
+            from ProductStock s
+            """)
+    List<ProductStockItemDto> findAllQuantities();
+
+    // 엔티티를 영속성 컨텍스트에 올리지 않고 수량만 읽는다. 이후 같은 트랜잭션의 잠금 조회가 오래된 엔티티를 받지 않도록 한다.
+    @Query("""
+            select cast(s.quantity + coalesce((select sum(b.quantity) from ProductStockBucket b where b.productStock = s), 0) as Integer)
+            from ProductStock s
+            where s.product.id = :productId
+            """)
+    Optional<Integer> findQuantityByProductId(@Param("productId") Long productId);
+
+    // 판매 전에 재고 행을 잠글지, 조각을 잠글지 정한다.
+    @Query("""
+            select new com.portfolio.backend.domain.product.service.dto.ProductStockShardDto(s.product.id, s.bucketCount)
+            from ProductStock s
+            where s.product.id in :productIds and s.bucketCount > 0
+            """)
+    List<ProductStockShardDto> findShardsByProductIdIn(@Param("productIds") Collection<Long> productIds);
 }
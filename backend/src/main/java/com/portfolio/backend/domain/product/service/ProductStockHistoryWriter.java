@@ -0,0 +1,87 @@
+package com.portfolio.backend.domain.product.service;
+
+import com.portfolio.backend.common.util.BufferedBatchWriter;
+import com.portfolio.backend.domain.product.entity.ProductStockHistory;
+import com.portfolio.backend.domain.product.event.ProductStockChangedEvent;
+import com.portfolio.backend.domain.product.repository.ProductStockHistoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 재고 변경 이력을 판매 트랜잭션과 분리해 묶음으로 기록한다.
+ * 이력은 커밋 이후에 쌓이므로, 기록이 늦어지거나 실패해도 재고 변경 자체는 되돌려지지 않는다.
+ */
+@Slf4j
+@Component
+public class ProductStockHistoryWriter {
+
+    private final ProductStockHistoryRepository productStockHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final BufferedBatchWriter<ProductStockChangedEvent> bufferedWriter;
+
+    public ProductStockHistoryWriter(ProductStockHistoryRepository productStockHistoryRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     ProductStockHistoryWriterProperties properties,
+                                     MeterRegistry meterRegistry,
+                                     ThreadPoolTaskExecutorBuilder taskExecutorBuilder) {
+        this.productStockHistoryRepository = productStockHistoryRepository;
+        // 커밋 이후 리스너에서 호출되면 이전 트랜잭션 자원이 아직 묶여 있으므로 항상 새 트랜잭션을 연다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // 워커 하나가 종료될 때까지 상주하므로 스레드 하나짜리 실행기를 따로 둔다.
+        this.executor = properties.isEnabled()
+                ? taskExecutorBuilder
+                        .corePoolSize(1)
+                        .maxPoolSize(1)
+                        .threadNamePrefix("product-stock-history-writer-")
+                        .build()
+                : null;
+        if (executor != null) {
+            executor.initialize();
+        }
+        this.bufferedWriter = executor != null
+                ? new BufferedBatchWriter<>("product-stock-history", properties, this::write, meterRegistry, executor)
+                : null;
+    }
+
+    public void append(ProductStockChangedEvent event) {
+        if (bufferedWriter == null) {
+            write(List.of(event));
+            return;
+        }
+        bufferedWriter.append(event);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (bufferedWriter != null) {
+            bufferedWriter.shutdown();
+            executor.shutdown();
+        }
+    }
+
+    private void write(List<ProductStockChangedEvent> events) {
+        List<ProductStockHistory> histories = events.stream()
+                .map(event -> ProductStockHistory.builder()
+                        .product(event.getProduct())
+                        .previous(event.getPreviousQuantity())
+                        .changed(event.getChangedQuantity())
+                        .reason(event.getReason())
+                        .memo(event.getMemo())
+                        .bucketNo(event.getBucketNo())
+                        .build())
+                .toList();
+
+        transactionTemplate.executeWithoutResult(status -> productStockHistoryRepository.saveAll(histories));
+    }
+}
@@ -0,0 +1,13 @@
+package com.portfolio.backend.domain.product.service;
+
+import com.portfolio.backend.common.util.BufferedWriterProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "product.stock.history.writer")
+public class ProductStockHistoryWriterProperties extends BufferedWriterProperties {
+
+    public ProductStockHistoryWriterProperties() {}
+
+}
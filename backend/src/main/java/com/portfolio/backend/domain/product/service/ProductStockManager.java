@@ -5,66 +5,135 @@ import com.portfolio.backend.common.event.EventPublisher;
 import com.portfolio.backend.domain.product.entity.Product;
 import com.portfolio.backend.domain.product.entity.ProductStatus;
 import com.portfolio.backend.domain.product.entity.ProductStock;
+import com.portfolio.backend.domain.product.entity.ProductStockBucket;
 import com.portfolio.backend.domain.product.entity.StockChangeReason;
 import com.portfolio.backend.domain.product.repository.ProductRepository;
+import com.portfolio.backend.domain.product.repository.ProductStockBucketRepository;
 import com.portfolio.backend.domain.product.repository.ProductStockRepository;
 import com.portfolio.backend.domain.product.service.dto.ProductStockItemDto;
+import com.portfolio.backend.domain.product.service.dto.ProductStockShardDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class ProductStockManager {
 
+    // 판매 중 삭제된 상품 주문은 아웃박스에서 실패 응답으로 전환되는 예상된 거절이다.
+    private static final DomainException DELETED_PRODUCT_SALE = DomainException.rejection("삭제된 상품은 재고를 변경할 수 없습니다.");
+
     private final ProductStockRepository productStockRepository;
+    private final ProductStockBucketRepository productStockBucketRepository;
     private final ProductRepository productRepository;
     private final EventPublisher eventPublisher;
+    private final ProductStockReservationLedger productStockReservationLedger;
 
     @Transactional
     public void refund(Long productId, int quantity) {
-        ProductStock productStock = getLockedByProductId(productId);
-        Product product = productStock.getProduct();
+        refund(List.of(new ProductStockItemDto(productId, quantity)));
+    }
+
+    @Transactional
+    public void refund(List<ProductStockItemDto> productStockItems) {
+        Map<Long, Integer> shards = getShards(productStockItems);
+        Map<Long, ProductStock> productStocks = getLockedByProductIds(withoutShards(productStockItems, shards));
+        List<ProductStock> changed = new ArrayList<>(productStocks.values());
 
-        productStock.increase(quantity, StockChangeReason.RETURN);
+        // 조각은 판매와 같이 (상품 id, 조각 번호) 순서로 잠가야 여러 상품 환불이나 판매의 전체 조각 잠금과 교착하지 않는다.
+        List<Refund> refunds = productStockItems.stream()
+                .map(item -> new Refund(item, shards.containsKey(item.getProductId())
+                        ? ThreadLocalRandom.current().nextInt(shards.get(item.getProductId()))
+                        : 0))
+                .sorted(Comparator.comparing((Refund refund) -> refund.item().getProductId())
+                        .thenComparingInt(Refund::bucketNo))
+                .toList();
 
-        if (product.getStatus() == ProductStatus.SOLD_OUT && productStock.isAvailable()) {
-            product.active();
+        for (Refund refund : refunds) {
+            ProductStockItemDto item = refund.item();
+            ProductStock productStock = productStocks.get(item.getProductId());
+            if (productStock == null) {
+                productStock = refundToBucket(item, refund.bucketNo());
+                changed.add(productStock);
+            } else {
+                productStock.increase(item.getQuantity(), StockChangeReason.RETURN);
+
+                Product product = productStock.getProduct();
+                if (product.getStatus() == ProductStatus.SOLD_OUT && productStock.isAvailable()) {
+                    product.active();
+                }
+            }
+            productStockReservationLedger.apply(item.getProductId(), item.getQuantity());
         }
 
-        eventPublisher.publishDomainEventsFrom(productStock);
+        changed.forEach(eventPublisher::publishDomainEventsFrom);
     }
 
     @Transactional
-    public void refund(List<ProductStockItemDto> productStockItems) {
-        productStockItems.forEach(item ->
-                refund(item.getProductId(), item.getQuantity()));
+    public void sale(Long productId, int quantity) {
+        sale(List.of(new ProductStockItemDto(productId, quantity)));
     }
 
     @Transactional
-    public void sale(Long productId, int quantity) {
-        ProductStock productStock = getLockedByProductId(productId);
-        Product product = productStock.getProduct();
+    public void sale(List<ProductStockItemDto> productStockItems) {
+        // 재고가 부족한 주문은 행 잠금을 잡기 전에 장부에서 거절한다.
+        productStockReservationLedger.reserve(productStockItems);
 
-        if (product.getStatus() == ProductStatus.DELETED) {
-            throw new DomainException("삭제된 상품은 재고를 변경할 수 없습니다.");
-        }
+        // 조각으로 나뉜 상품은 재고 행을 잠그지 않고, 일반 재고 행을 모두 잠근 뒤 상품 id 순서로 조각을 잠근다.
+        Map<Long, Integer> shards = getShards(productStockItems);
+        Map<Long, ProductStock> productStocks = getLockedByProductIds(withoutShards(productStockItems, shards));
+        List<ProductStock> changed = new ArrayList<>(productStocks.values());
 
-        productStock.decrease(quantity, StockChangeReason.SALE);
+        List<ProductStockItemDto> orderedItems = productStockItems.stream()
+                .sorted(Comparator.comparing(ProductStockItemDto::getProductId))
+                .toList();
 
-        if (product.getStatus() == ProductStatus.ACTIVE && !productStock.isAvailable()) {
-            product.soldOut();
+        for (ProductStockItemDto item : orderedItems) {
+            ProductStock productStock = productStocks.get(item.getProductId());
+            if (productStock == null || productStock.isSharded()) {
+                Integer bucketCount = productStock == null ? shards.get(item.getProductId()) : productStock.getBucketCount();
+                productStock = saleFromBuckets(item, bucketCount);
+                changed.add(productStock);
+                continue;
+            }
+
+            Product product = productStock.getProduct();
+            validateSaleable(product);
+            productStock.decrease(item.getQuantity(), StockChangeReason.SALE);
+
+            if (product.getStatus() == ProductStatus.ACTIVE && !productStock.isAvailable()) {
+                product.soldOut();
+            }
         }
 
-        eventPublisher.publishDomainEventsFrom(productStock);
+        // 변경된 재고는 커밋 시점에 JDBC 배치로 한 번에 기록된다.
+        changed.forEach(eventPublisher::publishDomainEventsFrom);
     }
 
+    /**
+     * 재고를 bucketCount 개의 조각으로 다시 나눈다. 0 이면 조각을 없앤다. 총 수량은 바뀌지 않는다.
+     */
     @Transactional
-    public void sale(List<ProductStockItemDto> productStockItems) {
-        productStockItems.forEach(item ->
-                sale(item.getProductId(), item.getQuantity()));
+    public void rebalance(Long productId, int bucketCount) {
+        ProductStock productStock = getLockedByProductId(productId);
+        if (productStock.getProduct().getStatus() == ProductStatus.DELETED) {
+            throw new DomainException("삭제된 상품은 재고를 변경할 수 없습니다.");
+        }
+
+        lockBuckets(productStock);
+        productStock.rebalance(bucketCount);
     }
 
     @Transactional
@@ -76,7 +145,10 @@ public class ProductStockManager {
             throw new DomainException("삭제된 상품은 재고를 변경할 수 없습니다.");
         }
 
+        lockBuckets(productStock);
+        int previousQuantity = productStock.getQuantity();
         productStock.adjust(quantity, memo);
+        productStockReservationLedger.apply(productId, quantity - previousQuantity);
 
         if (product.getStatus() != ProductStatus.DELETED) {
             if (productStock.isAvailable()) {
@@ -98,13 +170,168 @@ public class ProductStockManager {
             throw new DomainException("삭제된 상품이 아닙니다.");
         }
 
+        lockBuckets(productStock);
+        int previousQuantity = productStock.getQuantity();
         productStock.adjust(0, "판매 중지");
+        productStockReservationLedger.apply(productId, -previousQuantity);
 
         eventPublisher.publishDomainEventsFrom(productStock);
     }
 
+    /**
+     * 수량이 충분한 조각 하나를 잠그지 않은 것 중에서 골라 차감한다.
+     * 그런 조각이 없을 때만 모든 조각을 순서대로 잠그고 나눠서 차감한다.
+     */
+    private ProductStock saleFromBuckets(ProductStockItemDto item, int bucketCount) {
+        int preferred = ThreadLocalRandom.current().nextInt(bucketCount);
+        List<ProductStockBucket> available = productStockBucketRepository.findAvailableSkipLocked(
+                item.getProductId(), item.getQuantity(), preferred, bucketCount, PageRequest.ofSize(1));
+
+        if (!available.isEmpty()) {
+            ProductStockBucket bucket = available.get(0);
+            ProductStock productStock = bucket.getProductStock();
+            validateSaleable(productStock.getProduct());
+            productStock.decrease(bucket, item.getQuantity(), StockChangeReason.SALE);
+
+            // 이 조각이 비었을 때만 상품 전체가 품절되었을 수 있다.
+            if (bucket.getQuantity() == 0) {
+                syncShardedStatus(productStock.getProduct());
+            }
+            return productStock;
+        }
+
+        List<ProductStockBucket> buckets = productStockBucketRepository.findAllLockedByProductId(item.getProductId());
+        ProductStock productStock = buckets.isEmpty()
+                // 그 사이 조각이 해제되었다면 재고 행을 잠근다.
+                ? getLockedByProductId(item.getProductId())
+                : buckets.get(0).getProductStock();
+        Product product = productStock.getProduct();
+        validateSaleable(product);
+        if (productStock.isSharded()) {
+            productStock.decreaseAcrossBuckets(item.getQuantity(), StockChangeReason.SALE);
+            syncShardedStatus(product);
+        } else {
+            productStock.decrease(item.getQuantity(), StockChangeReason.SALE);
+            if (product.getStatus() == ProductStatus.ACTIVE && !productStock.isAvailable()) {
+                product.soldOut();
+            }
+        }
+        return productStock;
+    }
+
+    private ProductStock refundToBucket(ProductStockItemDto item, int bucketNo) {
+        return productStockBucketRepository.findLockedByProductIdAndBucketNo(item.getProductId(), bucketNo)
+                .map(bucket -> {
+                    ProductStock productStock = bucket.getProductStock();
+                    Product product = productStock.getProduct();
+                    boolean wasEmpty = bucket.getQuantity() == 0;
+                    productStock.increase(bucket, item.getQuantity(), StockChangeReason.RETURN);
+
+                    // 빈 조각이 채워질 때만 품절이던 상품이 다시 판매 가능해질 수 있다.
+                    if (wasEmpty || product.getStatus() == ProductStatus.SOLD_OUT) {
+                        syncShardedStatus(product);
+                    }
+                    return productStock;
+                })
+                .orElseGet(() -> {
+                    // 조각 수가 줄었거나 조각이 해제되었다면 재고 행으로 되돌린다.
+                    ProductStock productStock = getLockedByProductId(item.getProductId());
+                    lockBuckets(productStock);
+                    productStock.increase(item.getQuantity(), StockChangeReason.RETURN);
+
+                    Product product = productStock.getProduct();
+                    if (product.getStatus() == ProductStatus.SOLD_OUT && productStock.isAvailable()) {
+                        product.active();
+                    }
+                    return productStock;
+                });
+    }
+
+    /**
+     * 조각 재고의 판매 상태를 맞춘다. 다른 조각은 잠그지 않았으므로 메모리의 합계로 판정하지 않는다.
+     * 조각을 0 으로 만들거나 0 에서 채우는 트랜잭션은 모두 여기서 상품 행을 잠그므로 서로 차례로 실행되고,
+     * 잠근 뒤 새 문장으로 합산하면 앞서 커밋된 다른 조각의 변경이 보인다.
+     * 잠금 순서는 항상 조각 다음 상품 행이다.
+     */
+    private void syncShardedStatus(Product product) {
+        ProductStatus current = ProductStatus.valueOf(productRepository.findLockedStatusById(product.getId()));
+        if (current == ProductStatus.DELETED) {
+            return;
+        }
+
+        ProductStatus status = productStockBucketRepository.sumQuantityByProductId(product.getId()) > 0
+                ? ProductStatus.ACTIVE
+                : ProductStatus.SOLD_OUT;
+        if (current != status) {
+            productRepository.updateStatus(product.getId(), status, LocalDateTime.now());
+        }
+
+        // 커밋 후 리스너가 확정된 상태를 보도록 메모리의 상품도 맞춘다. 상태 컬럼만 갱신된다.
+        if (status == ProductStatus.ACTIVE) {
+            product.active();
+        } else {
+            product.soldOut();
+        }
+    }
+
+    private void validateSaleable(Product product) {
+        if (product.getStatus() == ProductStatus.DELETED) {
+            throw DELETED_PRODUCT_SALE;
+        }
+    }
+
+    // 재고 행을 잠근 뒤 호출한다. 조각 수량을 모두 바꾸는 작업은 조각까지 잠가야 한다.
+    private void lockBuckets(ProductStock productStock) {
+        if (productStock.isSharded()) {
+            productStockBucketRepository.findAllLockedByProductId(productStock.getProduct().getId());
+        }
+    }
+
+    private Map<Long, Integer> getShards(List<ProductStockItemDto> productStockItems) {
+        Set<Long> productIds = productStockItems.stream()
+                .map(ProductStockItemDto::getProductId)
+                .collect(Collectors.toSet());
+
+        return productStockRepository.findShardsByProductIdIn(productIds).stream()
+                .collect(Collectors.toMap(ProductStockShardDto::getProductId, ProductStockShardDto::getBucketCount));
+    }
+
+    private List<ProductStockItemDto> withoutShards(List<ProductStockItemDto> productStockItems, Map<Long, Integer> shards) {
+        return productStockItems.stream()
+                .filter(item -> !shards.containsKey(item.getProductId()))
+                .toList();
+    }
+
+    /**
+     * 주문에 포함된 재고 행을 product_id 순서로 한 번에 잠근다.
+     * 상품은 잠그지 않고 잠근 재고와 함께 한 번에 읽어 항목마다 조회하지 않게 한다.
+     */
+    private Map<Long, ProductStock> getLockedByProductIds(List<ProductStockItemDto> productStockItems) {
+        Set<Long> productIds = productStockItems.stream()
+                .map(ProductStockItemDto::getProductId)
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        Map<Long, ProductStock> productStocks = new LinkedHashMap<>();
+        if (productIds.isEmpty()) {
+            return productStocks;
+        }
+        productStockRepository.findAllLockedByProductIdIn(productIds)
+                .forEach(productStock -> productStocks.put(productStock.getProduct().getId(), productStock));
+
+        if (productStocks.size() != productIds.size()) {
+            throw new DomainException("재고가 존재하지 않습니다.");
+        }
+
+        // 잠금 이후에 읽어야 이미 잠근 최신 재고 인스턴스가 그대로 연결된다.
+        productRepository.findAllWithStockByIdIn(productIds);
+        return productStocks;
+    }
+
     private ProductStock getLockedByProductId(Long productId) {
         return productStockRepository.findLockedByProductId(productId)
                 .orElseThrow(() -> new DomainException("재고가 존재하지 않습니다."));
     }
+
+    // 조각으로 나뉘지 않은 상품의 bucketNo 는 쓰이지 않는다.
+    private record Refund(ProductStockItemDto item, int bucketNo) {}
 }
@@ -0,0 +1,209 @@
+package com.portfolio.backend.domain.product.service;
+
+import com.portfolio.backend.common.exception.DomainException;
+import com.portfolio.backend.domain.product.entity.ProductStock;
+import com.portfolio.backend.domain.product.repository.ProductStockRepository;
+import com.portfolio.backend.domain.product.service.dto.ProductStockItemDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품별 재고를 메모리에 두고 판매 수량을 먼저 예약한다.
+ * 재고가 부족한 주문은 DB 행 잠금을 기다리지 않고 바로 거절되며,
+ * 예약은 트랜잭션이 커밋되면 확정되고 롤백되면 반환된다.
+ * DB 가 항상 최종 기준이므로 장부가 어긋나도 초과 판매는 일어나지 않고,
+ * 다른 인스턴스의 변경으로 장부가 부족하다고 판정하면 DB 에서 다시 읽어 확인한다.
+ * 단, 다시 읽는 것은 resync-interval 마다 한 번이므로 다른 인스턴스가 반품한 재고는 그 간격만큼 늦게 팔릴 수 있다.
+ * 판매 트랜잭션 안에서 불리므로 DB 값은 수량만 읽어, 뒤따르는 잠금 조회가 잠그기 전의 엔티티를 받지 않게 한다.
+ */
+@Slf4j
+@Component
+public class ProductStockReservationLedger {
+
+    private final ProductStockRepository productStockRepository;
+    private final ProductStockReservationProperties properties;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public ProductStockReservationLedger(ProductStockRepository productStockRepository,
+                                         ProductStockReservationProperties properties) {
+        this.productStockRepository = productStockRepository;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        List<ProductStockItemDto> stocks = productStockRepository.findAllQuantities();
+        long now = System.nanoTime();
+        // 이미 예약을 받기 시작한 항목을 덮어쓰면 진행 중인 예약이 사라지므로 없는 항목만 채운다.
+        stocks.forEach(stock -> entries.putIfAbsent(stock.getProductId(), new Entry(stock.getQuantity(), now)));
+        log.info("Product stock reservation ledger rebuilt size: {}", stocks.size());
+    }
+
+    /**
+     * 모든 항목을 예약하거나 하나도 예약하지 않는다.
+     * 예약은 현재 트랜잭션이 끝날 때 확정 또는 반환된다.
+     */
+    public void reserve(List<ProductStockItemDto> items) {
+        if (!properties.isEnabled() || items.isEmpty()) {
+            return;
+        }
+
+        List<ProductStockItemDto> reserved = new ArrayList<>(items.size());
+        try {
+            for (ProductStockItemDto item : items) {
+                reserve(item.getProductId(), item.getQuantity());
+                reserved.add(item);
+            }
+        } catch (RuntimeException e) {
+            reserved.forEach(item -> getEntry(item.getProductId()).release(item.getQuantity()));
+            throw e;
+        }
+
+        afterCompletion(reserved);
+    }
+
+    /**
+     * 커밋된 재고 변경량을 장부에 반영한다. 트랜잭션 안이면 커밋 후에 반영된다.
+     */
+    public void apply(Long productId, int delta) {
+        if (!properties.isEnabled() || delta == 0) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyCommitted(productId, delta);
+                }
+            });
+        } else {
+            applyCommitted(productId, delta);
+        }
+    }
+
+    public int getAvailable(Long productId) {
+        Entry entry = entries.get(productId);
+        return entry == null ? 0 : entry.available();
+    }
+
+    private void reserve(Long productId, int quantity) {
+        Entry entry = getEntry(productId);
+        if (entry.tryReserve(quantity)) {
+            return;
+        }
+
+        // 다른 인스턴스가 재고를 늘렸을 수 있으므로 주기마다 한 번은 DB 값을 확인한다.
+        if (entry.isStale(properties.getResyncInterval().toNanos())) {
+            productStockRepository.findQuantityByProductId(productId)
+                    .ifPresent(entry::sync);
+            if (entry.tryReserve(quantity)) {
+                return;
+            }
+        }
+
+        throw ProductStock.OUT_OF_STOCK;
+    }
+
+    private void afterCompletion(List<ProductStockItemDto> reserved) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reserved.forEach(item -> getEntry(item.getProductId()).commit(item.getQuantity()));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                for (ProductStockItemDto item : reserved) {
+                    Entry entry = getEntry(item.getProductId());
+                    if (status == STATUS_COMMITTED) {
+                        entry.commit(item.getQuantity());
+                    } else {
+                        entry.release(item.getQuantity());
+                    }
+                }
+            }
+        });
+    }
+
+    private void applyCommitted(Long productId, int delta) {
+        Entry entry = entries.get(productId);
+        if (entry != null) {
+            entry.apply(delta);
+        }
+    }
+
+    private Entry getEntry(Long productId) {
+        Entry entry = entries.get(productId);
+        if (entry != null) {
+            return entry;
+        }
+
+        // 장부를 만든 뒤 등록된 상품은 처음 예약할 때 DB 에서 읽어온다.
+        int quantity = productStockRepository.findQuantityByProductId(productId)
+                .orElseThrow(() -> new DomainException("재고가 존재하지 않습니다."));
+        return entries.computeIfAbsent(productId, id -> new Entry(quantity, System.nanoTime()));
+    }
+
+    /**
+     * 상품 하나의 재고 카운터. 락은 상품 단위로만 걸리며 임계 구역은 정수 연산뿐이다.
+     */
+    private static class Entry {
+
+        private int quantity;
+        private int reserved;
+        private long syncedAt;
+
+        private Entry(int quantity, long syncedAt) {
+            this.quantity = quantity;
+            this.syncedAt = syncedAt;
+        }
+
+        private synchronized boolean tryReserve(int amount) {
+            if (quantity - reserved < amount) {
+                return false;
+            }
+            reserved += amount;
+            return true;
+        }
+
+        private synchronized void commit(int amount) {
+            reserved -= amount;
+            quantity -= amount;
+        }
+
+        private synchronized void release(int amount) {
+            reserved -= amount;
+        }
+
+        private synchronized void apply(int delta) {
+            quantity += delta;
+        }
+
+        private synchronized void sync(int committedQuantity) {
+            quantity = committedQuantity;
+            syncedAt = System.nanoTime();
+        }
+
+        private synchronized boolean isStale(long intervalNanos) {
+            return System.nanoTime() - syncedAt >= intervalNanos;
+        }
+
+        private synchronized int available() {
+            return quantity - reserved;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.portfolio.backend.domain.product.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "product.stock.reservation")
+public class ProductStockReservationProperties {
+
+    // false 이면 예약 장부를 거치지 않고 DB 잠금만으로 재고를 판정한다.
+    private boolean enabled = true;
+
+    // 재고 부족 판정 시 DB 에서 다시 읽어오기 전까지 장부 값을 신뢰하는 시간.
+    // 여러 인스턴스로 띄우면 다른 인스턴스의 반품·조정으로 늘어난 재고를 이 시간 동안 보지 못해 판매를 거절할 수 있다.
+    // 초과 판매는 DB 가 막으므로 늘리면 DB 조회가 줄고, 줄이면 거절되는 시간이 짧아진다.
+    private Duration resyncInterval = Duration.ofSeconds(1);
+
+    public ProductStockReservationProperties() {}
+
+}
@@ -0,0 +1,12 @@
+package com.portfolio.backend.domain.product.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProductStockShardDto {
+
+    private Long productId;
+    private Integer bucketCount;
+}
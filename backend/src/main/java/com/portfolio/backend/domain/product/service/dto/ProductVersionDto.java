@@ -0,0 +1,20 @@
+package com.portfolio.backend.domain.product.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class ProductVersionDto {
+
+    private Long productId;
+    private LocalDateTime updatedAt;
+    private Integer stockVersion;
+    private LocalDateTime stockUpdatedAt;
+
+    // 조각으로 나뉜 재고는 판매 시 재고 행 대신 조각 행이 바뀐다.
+    private Long bucketVersionSum;
+    private LocalDateTime bucketUpdatedAt;
+}
@@ -23,6 +23,9 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class UserCredit extends AggregateRoot {
 
+    // 결제 실패는 예상된 거절이라 스택 트레이스 없는 예외를 재사용한다.
+    public static final UnprocessableEntityException INSUFFICIENT_BALANCE = UnprocessableEntityException.rejection("잔액이 부족합니다.");
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -59,6 +62,9 @@ public class UserCredit extends AggregateRoot {
         if (amount.isLessThanOrEqual(Money.zero())) {
             throw new UnprocessableEntityException("충전금액은 0과 같거나 작을 수 없습니다.");
         }
+        if (this.amount.exceedsMaxWhenAdded(amount)) {
+            throw new UnprocessableEntityException("충전 후 잔액이 최대 금액을 넘을 수 없습니다.");
+        }
 
         this.amount = this.amount.add(amount);
 
@@ -77,16 +83,31 @@ public class UserCredit extends AggregateRoot {
     }
 
     public void subtract(Money amount, String description) {
-        if (amount.isLessThanOrEqual(Money.zero())) {
-            throw new UnprocessableEntityException("차감금액은 0과 같거나 작을 수 없습니다.");
-        }
+        validateSubtractAmount(amount);
 
         if (this.amount.isLessThan(amount)) {
-            throw new UnprocessableEntityException("잔액이 부족합니다.");
+            throw INSUFFICIENT_BALANCE;
         }
 
         this.amount = this.amount.subtract(amount);
 
+        registerSubtractedEvent(amount, description);
+    }
+
+    /**
+     * 조건부 UPDATE 로 DB 에서 이미 차감된 뒤 다시 읽은 잔액을 기준으로 차감 이벤트만 등록한다.
+     */
+    public void subtracted(Money amount, String description) {
+        registerSubtractedEvent(amount, description);
+    }
+
+    public static void validateSubtractAmount(Money amount) {
+        if (amount.isLessThanOrEqual(Money.zero())) {
+            throw new UnprocessableEntityException("차감금액은 0과 같거나 작을 수 없습니다.");
+        }
+    }
+
+    private void registerSubtractedEvent(Money amount, String description) {
         registerEvent(UserCreditAmountChangedEvent.builder()
                 .userCredit(this)
                 .transactionType(CreditTransactionType.DECREASE)
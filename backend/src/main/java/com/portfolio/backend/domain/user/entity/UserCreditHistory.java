@@ -16,8 +16,10 @@ import java.time.LocalDateTime;
 @Table(name = "user_credit_histories")
 public class UserCreditHistory {
 
+    // IDENTITY 는 INSERT 마다 키를 받아와야 해서 JDBC 배치가 꺼진다. 시퀀스를 50 단위로 미리 할당한다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_credit_histories_id_seq")
+    @SequenceGenerator(name = "user_credit_histories_id_seq", sequenceName = "user_credit_histories_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
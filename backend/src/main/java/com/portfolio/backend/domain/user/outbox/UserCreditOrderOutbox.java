@@ -1,6 +1,7 @@
 package com.portfolio.backend.domain.user.outbox;
 
 import com.portfolio.backend.common.event.PaymentStatus;
+import com.portfolio.backend.domain.common.outbox.ClaimableOutbox;
 import com.portfolio.backend.domain.common.outbox.OutboxStatus;
 import jakarta.persistence.*;
 import lombok.*;
@@ -15,7 +16,7 @@ import java.util.UUID;
 @Builder
 @Table(name = "user_credit_order_outbox")
 @Entity
-public class UserCreditOrderOutbox {
+public class UserCreditOrderOutbox implements ClaimableOutbox {
 
     @Id
     private UUID id;
@@ -31,6 +32,8 @@ public class UserCreditOrderOutbox {
 
     private LocalDateTime processedAt;
 
+    private LocalDateTime claimedAt;
+
     @Column(nullable = false)
     private String payload;
 
@@ -39,4 +42,9 @@ public class UserCreditOrderOutbox {
 
     @Enumerated(EnumType.STRING)
     private PaymentStatus paymentStatus;
+
+    public void setOutboxStatus(OutboxStatus outboxStatus) {
+        this.outboxStatus = outboxStatus;
+        this.claimedAt = null;
+    }
 }
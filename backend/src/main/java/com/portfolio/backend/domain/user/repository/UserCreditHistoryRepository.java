@@ -1,13 +1,48 @@
 package com.portfolio.backend.domain.user.repository;
 
 import com.portfolio.backend.domain.user.entity.UserCreditHistory;
+import com.portfolio.backend.domain.user.service.dto.UserCreditHistoryItemDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface UserCreditHistoryRepository extends JpaRepository<UserCreditHistory, Long> {
 
     Page<UserCreditHistory> findAllByUserCreditId(Long userCreditId, Pageable pageable);
+
+    // count 쿼리 없이 size + 1 개만 읽어 다음 페이지 여부를 판단한다.
+    Slice<UserCreditHistory> findSliceByUserCreditId(Long userCreditId, Pageable pageable);
+
+    // 조회 컬럼을 idx_user_credit_histories_credit_time_id 에 포함된 것으로 한정해 인덱스만 읽고 끝나게 한다.
+    @Query("""
+            select new com.portfolio.backend.domain.user.service.dto.UserCreditHistoryItemDto(
+                h.id, h.transactionType, h.amount, h.transactionDateTime)
+            from UserCreditHistory h
+            where h.userCredit.id = :userCreditId
+            order by h.transactionDateTime desc, h.id desc
+            """)
+    List<UserCreditHistoryItemDto> findFirstHistoryPage(@Param("userCreditId") Long userCreditId, Pageable pageable);
+
+    // (시각, id) < (커서 시각, 커서 id). 앞의 <= 조건이 인덱스 범위 탐색의 시작점이 된다.
+    @Query("""
+            select new com.portfolio.backend.domain.user.service.dto.UserCreditHistoryItemDto(
+                h.id, h.transactionType, h.amount, h.transactionDateTime)
+            from UserCreditHistory h
+            where h.userCredit.id = :userCreditId
+            and h.transactionDateTime <= :cursorAt
+            and (h.transactionDateTime < :cursorAt or h.id < :cursorId)
+            order by h.transactionDateTime desc, h.id desc
+            """)
+    List<UserCreditHistoryItemDto> findHistoryPageAfter(@Param("userCreditId") Long userCreditId,
+                                                       @Param("cursorAt") LocalDateTime cursorAt,
+                                                       @Param("cursorId") Long cursorId,
+                                                       Pageable pageable);
 }
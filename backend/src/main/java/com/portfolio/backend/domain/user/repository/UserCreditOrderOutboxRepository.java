@@ -3,9 +3,19 @@ package com.portfolio.backend.domain.user.repository;
 import com.portfolio.backend.common.event.PaymentStatus;
 import com.portfolio.backend.domain.user.outbox.UserCreditOrderOutbox;
 import com.portfolio.backend.domain.common.outbox.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,6 +25,86 @@ public interface UserCreditOrderOutboxRepository extends JpaRepository<UserCredi
 
     Optional<UserCreditOrderOutbox> findBySagaIdAndOutboxStatus(UUID sagaId, OutboxStatus outboxStatus);
 
-    Optional<List<UserCreditOrderOutbox>> findAllByOutboxStatusIsNull();
-    Optional<List<UserCreditOrderOutbox>> findAllByOutboxStatusAndPaymentStatus(OutboxStatus outboxStatus, PaymentStatus paymentStatus);
+    // lock.timeout -2 : FOR UPDATE SKIP LOCKED
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select u from UserCreditOrderOutbox u
+            where u.outboxStatus is null
+              and (u.claimedAt is null or u.claimedAt < :claimExpiredAt)
+            order by u.createdAt
+            """)
+    List<UserCreditOrderOutbox> findClaimable(@Param("claimExpiredAt") LocalDateTime claimExpiredAt,
+                                              Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select u from UserCreditOrderOutbox u
+            where u.outboxStatus = :outboxStatus
+              and u.paymentStatus = :paymentStatus
+              and (u.claimedAt is null or u.claimedAt < :claimExpiredAt)
+            order by u.createdAt
+            """)
+    List<UserCreditOrderOutbox> findClaimableByOutboxStatusAndPaymentStatus(@Param("outboxStatus") OutboxStatus outboxStatus,
+                                                                            @Param("paymentStatus") PaymentStatus paymentStatus,
+                                                                            @Param("claimExpiredAt") LocalDateTime claimExpiredAt,
+                                                                            Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update UserCreditOrderOutbox u set u.claimedAt = :claimedAt where u.id in :ids")
+    int markClaimed(@Param("ids") Collection<UUID> ids, @Param("claimedAt") LocalDateTime claimedAt);
+
+    // claimedAt 으로 선점한 행이 아직 그 선점 그대로일 때만 선점을 늘린다. 0 이면 만료되어 다른 인스턴스가 다시 선점한 행이다.
+    @Modifying(clearAutomatically = true)
+    @Query("update UserCreditOrderOutbox u set u.claimedAt = :extendedAt where u.id = :id and u.claimedAt = :claimedAt")
+    int extendClaim(@Param("id") UUID id, @Param("claimedAt") LocalDateTime claimedAt, @Param("extendedAt") LocalDateTime extendedAt);
+
+    // 처리가 길어지는 동안 선점이 만료되지 않도록 선점 시각을 늦춘다.
+    @Modifying(clearAutomatically = true)
+    @Query("update UserCreditOrderOutbox u set u.claimedAt = :claimedAt where u.id = :id")
+    int renewClaim(@Param("id") UUID id, @Param("claimedAt") LocalDateTime claimedAt);
+
+    // 보상 대기 중인 행만 보상 완료로 바꾼다. 갱신된 행이 없으면 이미 다른 곳에서 보상한 것이다.
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update UserCreditOrderOutbox u
+            set u.paymentStatus = com.portfolio.backend.common.event.PaymentStatus.COMPENSATED,
+                u.outboxStatus = com.portfolio.backend.domain.common.outbox.OutboxStatus.COMPLETED,
+                u.processedAt = :processedAt,
+                u.claimedAt = null
+            where u.id = :id
+              and u.outboxStatus = com.portfolio.backend.domain.common.outbox.OutboxStatus.STARTED
+              and u.paymentStatus = com.portfolio.backend.common.event.PaymentStatus.COMPENSATING
+            """)
+    int markCompensated(@Param("id") UUID id, @Param("processedAt") LocalDateTime processedAt);
+
+    // 처리가 끝난 오래된 행을 batchSize 만큼 보관 테이블로 옮기고 옮긴 행 수를 반환한다.
+    // 보관 테이블은 원본 컬럼 뒤에 archived_at 을 덧붙인 것이라 컬럼 순서에 기대지 않도록 이름으로 옮긴다.
+    // 보상 단계에서 완료된 참여자 행을 saga_id 로 다시 읽으므로 사가가 종료된 행만 옮긴다.
+    // 오케스트레이터 행은 사가가 종료된 뒤에만 보관되므로, 원본 테이블에 진행 중인 행이 없으면 사가가 끝난 것이다.
+    @Modifying
+    @Query(value = """
+            WITH archived AS (
+                DELETE FROM user_credit_order_outbox
+                WHERE id IN (
+                    SELECT u.id FROM user_credit_order_outbox u
+                    WHERE u.outbox_status IN ('COMPLETED', 'FAILED')
+                      AND u.created_at < :cutoff
+                      AND NOT EXISTS (
+                          SELECT 1 FROM payment_outbox p
+                          WHERE p.saga_id = u.saga_id
+                            AND p.saga_status NOT IN ('SUCCEEDED', 'FAILED', 'COMPENSATED'))
+                      AND NOT EXISTS (
+                          SELECT 1 FROM product_stock_outbox s
+                          WHERE s.saga_id = u.saga_id
+                            AND s.saga_status NOT IN ('SUCCEEDED', 'FAILED', 'COMPENSATED'))
+                    ORDER BY u.created_at
+                    LIMIT :batchSize
+                    FOR UPDATE OF u SKIP LOCKED)
+                RETURNING id, order_id, saga_id, outbox_status, payment_status, payload, created_at, processed_at, claimed_at)
+            INSERT INTO user_credit_order_outbox_archive (id, order_id, saga_id, outbox_status, payment_status, payload, created_at, processed_at, claimed_at, archived_at)
+            SELECT id, order_id, saga_id, outbox_status, payment_status, payload, created_at, processed_at, claimed_at, now() FROM archived
+            """, nativeQuery = true)
+    int archiveFinished(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
 }
@@ -5,9 +5,14 @@ import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -20,4 +25,15 @@ public interface UserCreditRepository extends JpaRepository<UserCredit, Long> {
         @QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000")
     })
     Optional<UserCredit> findLockedByUserId(Long userId);
+
+    // 잔액이 충분할 때만 차감하고 갱신된 행 수를 반환한다. 0 이면 지갑이 없거나 잔액이 부족하다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE user_credits
+            SET amount = amount - :amount, version = version + 1, updated_at = :updatedAt
+            WHERE user_id = :userId AND amount >= :amount
+            """, nativeQuery = true)
+    int subtractIfSufficient(@Param("userId") Long userId,
+                             @Param("amount") BigDecimal amount,
+                             @Param("updatedAt") LocalDateTime updatedAt);
 }
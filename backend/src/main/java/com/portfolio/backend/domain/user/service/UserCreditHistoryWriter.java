@@ -0,0 +1,98 @@
+package com.portfolio.backend.domain.user.service;
+
+import com.portfolio.backend.common.util.BufferedBatchWriter;
+import com.portfolio.backend.domain.user.entity.UserCreditHistory;
+import com.portfolio.backend.domain.user.event.UserCreditAmountChangedEvent;
+import com.portfolio.backend.domain.user.repository.UserCreditHistoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 지갑 거래 이력(원장)을 추가 전용으로 묶어서 기록한다.
+ * <p>
+ * 같은 지갑의 변경은 행 잠금으로 직렬화되고, 이벤트 시각은 잠금을 얻은 뒤에 정해진다.
+ * 커밋 이후 큐에 들어가는 순서는 스레드에 따라 뒤바뀔 수 있으므로 묶음 안에서 거래 시각 순으로 정렬해
+ * 같은 지갑의 이력 ID 가 커밋 순서를 따르게 한다.
+ * 큐가 가득 차면 잠시 기다린 뒤 호출 스레드에서 바로 기록하고, 기록에 실패한 이력은 몇 번 다시 시도한 뒤 dead-letter 로그로 보낸다.
+ * 종료 시에는 큐에 남은 이력을 모두 기록한 뒤 멈추지만, 비정상 종료되면 큐에 남은 이력은 사라진다.
+ */
+@Slf4j
+@Component
+public class UserCreditHistoryWriter {
+
+    private static final Comparator<UserCreditAmountChangedEvent> TRANSACTION_ORDER =
+            Comparator.comparing(UserCreditAmountChangedEvent::getTransactionDateTime,
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final UserCreditHistoryRepository userCreditHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final BufferedBatchWriter<UserCreditAmountChangedEvent> bufferedWriter;
+
+    public UserCreditHistoryWriter(UserCreditHistoryRepository userCreditHistoryRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   UserCreditHistoryWriterProperties properties,
+                                   MeterRegistry meterRegistry,
+                                   ThreadPoolTaskExecutorBuilder taskExecutorBuilder) {
+        this.userCreditHistoryRepository = userCreditHistoryRepository;
+        // 커밋 이후 리스너에서 호출되면 이전 트랜잭션 자원이 아직 묶여 있으므로 항상 새 트랜잭션을 연다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // 워커 하나가 종료될 때까지 상주하므로 스레드 하나짜리 실행기를 따로 둔다.
+        this.executor = properties.isEnabled()
+                ? taskExecutorBuilder
+                        .corePoolSize(1)
+                        .maxPoolSize(1)
+                        .threadNamePrefix("user-credit-history-writer-")
+                        .build()
+                : null;
+        if (executor != null) {
+            executor.initialize();
+        }
+        this.bufferedWriter = executor != null
+                ? new BufferedBatchWriter<>("user-credit-history", properties, this::write, meterRegistry, executor)
+                : null;
+    }
+
+    public void append(UserCreditAmountChangedEvent event) {
+        if (bufferedWriter == null) {
+            write(List.of(event));
+            return;
+        }
+        bufferedWriter.append(event);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (bufferedWriter != null) {
+            bufferedWriter.shutdown();
+            executor.shutdown();
+        }
+    }
+
+    private void write(List<UserCreditAmountChangedEvent> events) {
+        List<UserCreditHistory> histories = events.stream()
+                .sorted(TRANSACTION_ORDER)
+                .map(event -> UserCreditHistory.builder()
+                        .userCredit(event.getUserCredit())
+                        .transactionType(event.getTransactionType())
+                        .amount(event.getAmount())
+                        .balanceAfterTransaction(event.getBalanceAfterTransaction())
+                        .description(event.getDescription())
+                        .transactionDateTime(event.getTransactionDateTime())
+                        .build())
+                .toList();
+
+        transactionTemplate.executeWithoutResult(status -> userCreditHistoryRepository.saveAll(histories));
+    }
+}
@@ -0,0 +1,16 @@
+package com.portfolio.backend.domain.user.service;
+
+import com.portfolio.backend.common.util.BufferedWriterProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "user.credit.history.writer")
+public class UserCreditHistoryWriterProperties extends BufferedWriterProperties {
+
+    public UserCreditHistoryWriterProperties() {
+        // 일시적인 DB 오류로 원장이 dead-letter 로 빠지지 않도록 몇 번 다시 시도한다.
+        setFailurePolicy(FailurePolicy.RETRY);
+    }
+
+}
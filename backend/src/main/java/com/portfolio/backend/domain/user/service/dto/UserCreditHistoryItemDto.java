@@ -0,0 +1,18 @@
+package com.portfolio.backend.domain.user.service.dto;
+
+import com.portfolio.backend.domain.common.value.Money;
+import com.portfolio.backend.domain.user.entity.CreditTransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class UserCreditHistoryItemDto {
+
+    private Long id;
+    private CreditTransactionType transactionType;
+    private Money amount;
+    private LocalDateTime transactionDateTime;
+}
@@ -0,0 +1,35 @@
+package com.portfolio.backend.service.common.dto;
+
+import com.portfolio.backend.common.util.CursorUtils;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 키셋 페이지. 다음 페이지가 있으면 nextCursor 를 그대로 다시 보내면 된다.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+
+    /**
+     * size + 1 개를 조회한 결과로 페이지를 만든다. 초과분이 있으면 다음 페이지가 있는 것으로 본다.
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, ToLongFunction<E> keyExtractor, Function<E, T> mapper) {
+        return withCursor(rows, size, row -> CursorUtils.encode(keyExtractor.applyAsLong(row)), mapper);
+    }
+
+    /**
+     * 복합 키 커서처럼 마지막 행에서 커서를 직접 만들어야 할 때 쓴다.
+     */
+    public static <E, T> CursorPage<T> withCursor(List<E> rows, int size, Function<E, String> cursorEncoder, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorEncoder.apply(page.get(page.size() - 1)) : null;
+
+        return new CursorPage<>(page.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,48 @@
+package com.portfolio.backend.service.common.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 조건부 GET 검증자. 엔티티를 읽지 않고 버전 컬럼만으로 만든다.
+ *
+ * @param eTag         따옴표 없는 strong ETag 값
+ * @param lastModified epoch millis, 알 수 없으면 -1
+ */
+public record ResourceVersion(
+        String eTag,
+        long lastModified
+) {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    /**
+     * ETag 는 각 부분을 '-' 로 이어 만들고, Last-Modified 는 시각 중 가장 늦은 값을 쓴다.
+     * 시각은 마이크로초까지 ETag 에 넣어 같은 초 안의 변경도 구분한다.
+     */
+    public static ResourceVersion of(String resource, Object... parts) {
+        String eTag = Stream.concat(Stream.of(resource), Arrays.stream(parts).map(ResourceVersion::format))
+                .collect(Collectors.joining("-"));
+
+        long lastModified = Arrays.stream(parts)
+                .filter(LocalDateTime.class::isInstance)
+                .map(LocalDateTime.class::cast)
+                .max(Comparator.naturalOrder())
+                .map(time -> time.atZone(ZONE).toInstant().toEpochMilli())
+                .orElse(-1L);
+
+        return new ResourceVersion(eTag, lastModified);
+    }
+
+    private static String format(Object part) {
+        if (part instanceof LocalDateTime time) {
+            return Long.toString(time.atZone(ZONE).toEpochSecond() * 1_000_000 + time.getNano() / 1_000);
+        }
+        return Objects.toString(part, "0");
+    }
+}
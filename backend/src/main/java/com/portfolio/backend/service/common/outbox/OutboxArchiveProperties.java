@@ -0,0 +1,30 @@
+package com.portfolio.backend.service.common.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "outbox.archive")
+public class OutboxArchiveProperties {
+
+    // PostgreSQL 전용 쿼리를 사용하므로 기본은 비활성화
+    private boolean enabled = false;
+
+    // 생성 후 이 기간이 지난 완료/실패 행을 보관 테이블로 옮긴다.
+    private Duration retention = Duration.ofDays(7);
+
+    private int batchSize = 1000;
+
+    private int maxBatchesPerRun = 100;
+
+    private String cron = "0 0 4 * * *";
+
+    public OutboxArchiveProperties() {}
+
+}
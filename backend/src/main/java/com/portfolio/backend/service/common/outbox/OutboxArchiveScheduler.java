@@ -0,0 +1,23 @@
+package com.portfolio.backend.service.common.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "outbox.archive", name = "enabled", havingValue = "true")
+public class OutboxArchiveScheduler {
+
+    private final OutboxArchiver outboxArchiver;
+
+    @Scheduled(cron = "${outbox.archive.cron}")
+    public void archive() {
+        outboxArchiver.archive();
+    }
+}
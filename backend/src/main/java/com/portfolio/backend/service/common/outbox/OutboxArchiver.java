@@ -0,0 +1,90 @@
+package com.portfolio.backend.service.common.outbox;
+
+import com.portfolio.backend.domain.order.repository.PaymentOutboxRepository;
+import com.portfolio.backend.domain.order.repository.ProductStockOutboxRepository;
+import com.portfolio.backend.domain.product.repository.ProductStockOrderOutboxRepository;
+import com.portfolio.backend.domain.user.repository.UserCreditOrderOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * 완료/실패한 오래된 아웃박스 행을 보관 테이블로 옮긴다.
+ * 오케스트레이터와 참여자 모두 사가가 종료 상태(SUCCEEDED, FAILED, COMPENSATED)인 행만 옮긴다.
+ * 배치마다 별도 트랜잭션으로 처리해 잠금과 WAL 크기를 배치 크기로 제한한다.
+ */
+@Slf4j
+@Component
+public class OutboxArchiver {
+
+    private final OutboxArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, BiFunction<LocalDateTime, Integer, Integer>> archivers = new LinkedHashMap<>();
+
+    public OutboxArchiver(OutboxArchiveProperties properties,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          PaymentOutboxRepository paymentOutboxRepository,
+                          ProductStockOutboxRepository productStockOutboxRepository,
+                          ProductStockOrderOutboxRepository productStockOrderOutboxRepository,
+                          UserCreditOrderOutboxRepository userCreditOrderOutboxRepository) {
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+
+        archivers.put("payment_outbox", paymentOutboxRepository::archiveFinished);
+        archivers.put("product_stock_outbox", productStockOutboxRepository::archiveFinished);
+        archivers.put("product_stock_reduction_outbox", productStockOrderOutboxRepository::archiveFinished);
+        archivers.put("user_credit_order_outbox", userCreditOrderOutboxRepository::archiveFinished);
+    }
+
+    public Map<String, Integer> archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+        Map<String, Integer> result = new LinkedHashMap<>();
+
+        archivers.forEach((table, archiver) -> result.put(table, archive(table, archiver, cutoff)));
+        return result;
+    }
+
+    private int archive(String table, BiFunction<LocalDateTime, Integer, Integer> archiver, LocalDateTime cutoff) {
+        Counter rows = Counter.builder("outbox.archive.rows")
+                .description("보관 테이블로 옮긴 아웃박스 행 수")
+                .tag("table", table)
+                .register(meterRegistry);
+        Timer duration = Timer.builder("outbox.archive.duration")
+                .description("아웃박스 보관 실행 시간")
+                .tag("table", table)
+                .register(meterRegistry);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int archived = 0;
+        try {
+            for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+                Integer moved = transactionTemplate.execute(status -> archiver.apply(cutoff, properties.getBatchSize()));
+                int count = moved == null ? 0 : moved;
+                archived += count;
+                rows.increment(count);
+
+                if (count < properties.getBatchSize()) {
+                    break;
+                }
+            }
+        } finally {
+            long elapsed = sample.stop(duration);
+            log.info("Archived {} rows from {} in {} ms", archived, table, elapsed / 1_000_000);
+        }
+        return archived;
+    }
+}
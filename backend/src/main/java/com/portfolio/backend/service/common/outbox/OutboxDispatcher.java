@@ -0,0 +1,164 @@
+package com.portfolio.backend.service.common.outbox;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사가 참여자와 단계(처리/실패/보상)마다 별도의 레인을 두고 릴레이를 실행한다.
+ * 레인은 각자 실행기를 가지므로 한 참여자의 적체가 다른 참여자나 보상 처리를 막지 않는다.
+ * 아웃박스 저장 트랜잭션이 커밋되면 해당 종류의 레인을 즉시 깨우고,
+ * 실행 중에 들어온 신호는 한 번의 재실행으로 합쳐진다. 놓친 신호는 스케줄러의 sweep 이 처리한다.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private final Map<OutboxType, List<Lane>> lanes = new ConcurrentHashMap<>();
+    private final OutboxWorkerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final boolean virtualThreads;
+
+    public OutboxDispatcher(OutboxWorkerProperties properties, MeterRegistry meterRegistry, Environment environment) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+    }
+
+    public void register(OutboxType outboxType, OutboxPhase phase, Runnable task) {
+        int concurrency = properties.getConcurrency(outboxType, phase);
+        Lane lane = new Lane(outboxType, phase, task, concurrency, createExecutor(outboxType, phase, concurrency));
+
+        // 레인에서 돌고 있는 드레인 수다. 처리되지 않은 아웃박스 행 수는 OutboxRelay 의 outbox.relay.claimed 로 본다.
+        Gauge.builder("outbox.lane.drains.queued", lane.queued, AtomicInteger::get)
+                .description("실행기에서 차례를 기다리는 드레인 수")
+                .tag("type", outboxType.name())
+                .tag("phase", phase.name())
+                .register(meterRegistry);
+        Gauge.builder("outbox.lane.drains.active", lane.active, AtomicInteger::get)
+                .description("실행 중인 드레인 수")
+                .tag("type", outboxType.name())
+                .tag("phase", phase.name())
+                .register(meterRegistry);
+
+        lanes.computeIfAbsent(outboxType, type -> new CopyOnWriteArrayList<>()).add(lane);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleOutboxSavedEvent(OutboxSavedEvent event) {
+        signal(event.getOutboxType());
+    }
+
+    public void signal(OutboxType outboxType) {
+        lanes.getOrDefault(outboxType, List.of()).forEach(lane -> {
+            lane.pending.set(true);
+            dispatch(lane);
+        });
+    }
+
+    private void dispatch(Lane lane) {
+        // 레인의 동시 실행 수를 넘지 않도록 해 같은 단계의 릴레이가 겹쳐 쌓이지 않게 한다.
+        int running;
+        do {
+            running = lane.running.get();
+            if (running >= lane.concurrency) {
+                return;
+            }
+        } while (!lane.running.compareAndSet(running, running + 1));
+
+        lane.queued.incrementAndGet();
+        try {
+            lane.executor.execute(() -> drain(lane));
+        } catch (RejectedExecutionException e) {
+            lane.queued.decrementAndGet();
+            lane.running.decrementAndGet();
+            log.warn("Outbox dispatch rejected type : {}, phase : {}", lane.outboxType, lane.phase);
+        }
+    }
+
+    private void drain(Lane lane) {
+        lane.queued.decrementAndGet();
+        lane.active.incrementAndGet();
+        try {
+            while (lane.pending.getAndSet(false)) {
+                lane.task.run();
+            }
+        } catch (RuntimeException e) {
+            log.error("Outbox dispatch failed type : {}, phase : {}", lane.outboxType, lane.phase, e);
+        } finally {
+            lane.active.decrementAndGet();
+            lane.running.decrementAndGet();
+        }
+
+        // 종료 직전에 들어온 신호를 놓치지 않도록 다시 확인한다.
+        if (lane.pending.get()) {
+            dispatch(lane);
+        }
+    }
+
+    // spring.threads.virtual.enabled 가 켜져 있으면(Java 21 이상) 릴레이를 가상 스레드에서 실행한다.
+    private TaskExecutor createExecutor(OutboxType outboxType, OutboxPhase phase, int concurrency) {
+        String prefix = "outbox-" + outboxType.name().toLowerCase() + "-" + phase.name().toLowerCase() + "-";
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(prefix);
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setThreadNamePrefix(prefix);
+        executor.initialize();
+        return executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lanes.values().stream().flatMap(List::stream).forEach(lane -> {
+            if (lane.executor instanceof ThreadPoolTaskExecutor pool) {
+                pool.shutdown();
+            } else if (lane.executor instanceof SimpleAsyncTaskExecutor virtual) {
+                virtual.close();
+            }
+        });
+    }
+
+    private static class Lane {
+
+        private final OutboxType outboxType;
+        private final OutboxPhase phase;
+        private final Runnable task;
+        private final int concurrency;
+        private final TaskExecutor executor;
+        private final AtomicBoolean pending = new AtomicBoolean();
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+
+        private Lane(OutboxType outboxType, OutboxPhase phase, Runnable task, int concurrency, TaskExecutor executor) {
+            this.outboxType = outboxType;
+            this.phase = phase;
+            this.task = task;
+            this.concurrency = concurrency;
+            this.executor = executor;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.portfolio.backend.service.common.outbox;
+
+public enum OutboxPhase {
+    PROCESS, FAILURE, COMPENSATION
+}
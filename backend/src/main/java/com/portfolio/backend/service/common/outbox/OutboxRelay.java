@@ -0,0 +1,138 @@
+package com.portfolio.backend.service.common.outbox;
+
+import com.portfolio.backend.domain.common.outbox.ClaimableOutbox;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 아웃박스 행을 FOR UPDATE SKIP LOCKED 로 배치 단위 선점한 뒤 워커에게 넘긴다.
+ * 선점은 짧은 트랜잭션에서 claimed_at 을 일괄 갱신하는 것으로 끝나므로,
+ * 여러 인스턴스가 동시에 폴링해도 같은 행을 중복 처리하지 않는다.
+ * 배치는 한 스레드에서 차례로 처리하므로 뒤쪽 행은 처리 전에 선점이 만료될 수 있다.
+ * 그래서 행마다 처리 직전에 선점이 그대로인지 확인하며 늘리고, 다른 인스턴스가 다시 선점한 행은 건너뛴다.
+ * 마지막으로 선점한 배치 크기를 outbox.relay.claimed 로 남긴다. batchSize 와 같으면 처리할 행이 더 쌓여 있다는 뜻이다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxRelayProperties properties;
+    private final TransactionTemplate claimTransaction;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> lastClaimed = new ConcurrentHashMap<>();
+
+    public OutboxRelay(OutboxRelayProperties properties, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.claimTransaction = new TransactionTemplate(transactionManager);
+        this.claimTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public <T extends ClaimableOutbox> int relay(String name,
+                                                 ClaimQuery<T> claimQuery,
+                                                 ClaimMarker claimMarker,
+                                                 ClaimExtender claimExtender,
+                                                 Consumer<T> worker) {
+        int processed = 0;
+        AtomicInteger claimed = lastClaimed(name);
+
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            LocalDateTime claimedAt = now();
+            List<T> outboxes = claim(claimQuery, claimMarker, claimedAt);
+            claimed.set(outboxes.size());
+            if (outboxes.isEmpty()) {
+                break;
+            }
+
+            log.info("Processing {} outbox size: {}", name, outboxes.size());
+            outboxes.forEach(outbox -> handle(name, outbox, claimedAt, claimExtender, worker));
+            processed += outboxes.size();
+
+            if (outboxes.size() < properties.getBatchSize()) {
+                break;
+            }
+        }
+        return processed;
+    }
+
+    private AtomicInteger lastClaimed(String name) {
+        return lastClaimed.computeIfAbsent(name, relay -> {
+            AtomicInteger claimed = new AtomicInteger();
+            Gauge.builder("outbox.relay.claimed", claimed, AtomicInteger::get)
+                    .description("마지막 폴링에서 선점한 아웃박스 행 수")
+                    .tag("relay", relay)
+                    .register(meterRegistry);
+            return claimed;
+        });
+    }
+
+    private <T extends ClaimableOutbox> List<T> claim(ClaimQuery<T> claimQuery, ClaimMarker claimMarker, LocalDateTime claimedAt) {
+        List<T> outboxes = claimTransaction.execute(status -> {
+            List<T> claimable = claimQuery.find(claimedAt.minus(properties.getClaimTimeout()), PageRequest.ofSize(properties.getBatchSize()));
+            if (!claimable.isEmpty()) {
+                claimMarker.markClaimed(claimable.stream().map(ClaimableOutbox::getId).toList(), claimedAt);
+            }
+            return claimable;
+        });
+        return outboxes == null ? List.of() : outboxes;
+    }
+
+    private <T extends ClaimableOutbox> void handle(String name,
+                                                    T outbox,
+                                                    LocalDateTime claimedAt,
+                                                    ClaimExtender claimExtender,
+                                                    Consumer<T> worker) {
+        try {
+            LocalDateTime extendedAt = now();
+            Integer extended = claimTransaction.execute(status -> claimExtender.extendClaim(outbox.getId(), claimedAt, extendedAt));
+            if (extended == null || extended == 0) {
+                log.info("Skipping {} outbox reclaimed by another relay id : {}", name, outbox.getId());
+                return;
+            }
+
+            // 선점 전에 읽은 엔티티라 claimedAt 이 이전 값이다. 그대로 저장하면 늘린 선점을 되돌리므로 맞춰 둔다.
+            outbox.setClaimedAt(extendedAt);
+            worker.accept(outbox);
+        } catch (RuntimeException e) {
+            // 한 행의 실패가 배치 전체를 멈추지 않도록 하고, 선점이 만료되면 다시 처리한다.
+            log.error("Failed to process {} outbox id : {}", name, outbox.getId(), e);
+        }
+    }
+
+    // DB(timestamp)는 마이크로초까지 저장하므로 선점 시각을 비교할 수 있도록 같은 정밀도로 맞춘다.
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    @FunctionalInterface
+    public interface ClaimQuery<T> {
+        List<T> find(LocalDateTime claimExpiredAt, Pageable pageable);
+    }
+
+    @FunctionalInterface
+    public interface ClaimMarker {
+        int markClaimed(Collection<UUID> ids, LocalDateTime claimedAt);
+    }
+
+    @FunctionalInterface
+    public interface ClaimExtender {
+        int extendClaim(UUID id, LocalDateTime claimedAt, LocalDateTime extendedAt);
+    }
+}
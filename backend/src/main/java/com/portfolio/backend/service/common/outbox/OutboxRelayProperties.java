@@ -0,0 +1,27 @@
+package com.portfolio.backend.service.common.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "outbox.relay")
+public class OutboxRelayProperties {
+
+    // 한 번에 선점하는 아웃박스 행 수
+    private int batchSize = 100;
+
+    // 한 번의 실행에서 처리하는 최대 배치 수
+    private int maxBatchesPerRun = 10;
+
+    // 선점 후 처리되지 않은 행을 다시 선점할 수 있게 되는 시간
+    private Duration claimTimeout = Duration.ofSeconds(30);
+
+    public OutboxRelayProperties() {}
+
+}
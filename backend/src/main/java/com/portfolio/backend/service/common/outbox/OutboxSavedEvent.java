@@ -0,0 +1,11 @@
+package com.portfolio.backend.service.common.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OutboxSavedEvent {
+
+    private OutboxType outboxType;
+}
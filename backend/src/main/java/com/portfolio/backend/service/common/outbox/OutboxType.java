@@ -0,0 +1,5 @@
+package com.portfolio.backend.service.common.outbox;
+
+public enum OutboxType {
+    PAYMENT, PRODUCT_STOCK, PRODUCT_STOCK_ORDER, USER_CREDIT_ORDER
+}
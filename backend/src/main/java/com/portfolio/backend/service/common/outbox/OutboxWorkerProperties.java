@@ -0,0 +1,28 @@
+package com.portfolio.backend.service.common.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "outbox.worker")
+public class OutboxWorkerProperties {
+
+    // 레인(참여자 x 단계)마다 동시에 실행할 수 있는 릴레이 수
+    private int concurrency = 1;
+
+    // 레인별 동시 실행 수. 예) outbox.worker.lanes.product-stock-order.process=2
+    private Map<OutboxType, Map<OutboxPhase, Integer>> lanes = new EnumMap<>(OutboxType.class);
+
+    public OutboxWorkerProperties() {}
+
+    public int getConcurrency(OutboxType outboxType, OutboxPhase phase) {
+        return Math.max(1, lanes.getOrDefault(outboxType, Map.of()).getOrDefault(phase, concurrency));
+    }
+}
@@ -6,15 +6,18 @@ import com.portfolio.backend.common.exception.UnprocessableEntityException;
 import com.portfolio.backend.common.security.UserDetailsImpl;
 import com.portfolio.backend.domain.introduction.entity.Introduction;
 import com.portfolio.backend.domain.introduction.repository.IntroductionRepository;
+import com.portfolio.backend.domain.introduction.repository.dto.IntroductionVersionDto;
 import com.portfolio.backend.domain.introduction.value.ExternalLink;
 import com.portfolio.backend.domain.user.entity.User;
 import com.portfolio.backend.domain.user.repository.UserRepository;
 import com.portfolio.backend.service.introduction.dto.IntroductionServiceMapper;
 import com.portfolio.backend.service.introduction.dto.IntroductionServiceRequest.Create;
 import com.portfolio.backend.service.introduction.dto.IntroductionServiceRequest.Update;
+import com.portfolio.backend.service.common.dto.ResourceVersion;
 import com.portfolio.backend.service.introduction.dto.IntroductionServiceResponse.Get;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -43,6 +46,18 @@ public class IntroductionService {
         return introductionServiceMapper.toGet(response.get());
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion getIntroductionVersion() {
+        IntroductionVersionDto version = introductionRepository.findVersionsOrderByUpdatedAtDesc(PageRequest.ofSize(1))
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("자기소개 정보를 찾을 수 없습니다."));
+
+        return ResourceVersion.of("introduction",
+                version.getIntroductionId(),
+                version.getUpdatedAt() != null ? version.getUpdatedAt() : version.getCreatedAt());
+    }
+
     @Transactional
     public Long create(Create request, UserDetailsImpl userDetails) {
         Optional<Introduction> response = introductionRepository.findFirstByOrderByUpdatedAtDesc();
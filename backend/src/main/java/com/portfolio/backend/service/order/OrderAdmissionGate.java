@@ -0,0 +1,170 @@
+package com.portfolio.backend.service.order;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portfolio.backend.common.exception.TooManyRequestsException;
+import com.portfolio.backend.domain.cart.repository.ProductCartRepository;
+import com.portfolio.backend.domain.product.entity.ProductStock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 주문 트랜잭션을 열기 전에 장바구니 상품별 허가를 받는다.
+ * 인기 상품에 주문이 몰려도 상품마다 permitsPerProduct 개의 트랜잭션만 동시에 DB 에 들어가고,
+ * 나머지는 maxWait 동안 기다린 뒤 넘치면 429 로 거절된다. 기다리는 요청은 톰캣 스레드를 잡고 있으므로
+ * 대기 수는 상품별이 아니라 인스턴스 전체에서 maxWaiting 개로 묶는다.
+ * 재고 변경 이벤트로 품절이 확인된 상품은 허가를 기다리지 않고 바로 거절한다.
+ * 허가와 품절 표시는 인스턴스마다 따로 관리하고, laneIdleTtl 동안 주문이 없던 상품의 상태는 지운다.
+ */
+@Slf4j
+@Component
+public class OrderAdmissionGate {
+
+    private static final Admission NONE = () -> {};
+
+    private final ProductCartRepository productCartRepository;
+    private final OrderAdmissionProperties properties;
+    private final TooManyRequestsException busy;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Cache<Long, Lane> lanes;
+
+    public OrderAdmissionGate(ProductCartRepository productCartRepository,
+                              OrderAdmissionProperties properties) {
+        this.productCartRepository = productCartRepository;
+        this.properties = properties;
+        this.busy = new TooManyRequestsException("주문이 몰리고 있습니다. 잠시 후 다시 시도해 주세요.", properties.getRetryAfter());
+        this.lanes = Caffeine.newBuilder()
+                .expireAfterAccess(properties.getLaneIdleTtl())
+                .build();
+    }
+
+    /**
+     * 사용자 장바구니의 상품들에 대한 허가를 받는다. 반환값을 닫으면 허가가 반환된다.
+     */
+    public Admission admit(Long userId) {
+        if (!properties.isEnabled()) {
+            return NONE;
+        }
+        return admit(productCartRepository.findProductIdsByUserId(userId));
+    }
+
+    /**
+     * 모든 상품의 허가를 받거나 하나도 받지 않는다.
+     * 여러 상품을 담은 주문끼리 서로의 허가를 기다리며 막히지 않도록 상품 id 순서로 받는다.
+     */
+    public Admission admit(Collection<Long> productIds) {
+        if (!properties.isEnabled() || productIds.isEmpty()) {
+            return NONE;
+        }
+
+        List<Lane> targets = productIds.stream()
+                .distinct()
+                .sorted()
+                .map(this::getLane)
+                .toList();
+        for (Lane lane : targets) {
+            lane.checkAvailable();
+        }
+
+        List<Lane> acquired = new ArrayList<>(targets.size());
+        try {
+            for (Lane lane : targets) {
+                if (!lane.acquire(waiting, properties.getMaxWaiting(), properties.getMaxWait().toNanos())) {
+                    log.debug("Order admission rejected productId : {}", lane.productId);
+                    throw busy;
+                }
+                acquired.add(lane);
+                // 기다리는 동안 품절되었으면 DB 에 들어가지 않는다.
+                lane.checkAvailable();
+            }
+        } catch (RuntimeException e) {
+            acquired.forEach(Lane::release);
+            throw e;
+        }
+
+        return () -> acquired.forEach(Lane::release);
+    }
+
+    /**
+     * 커밋된 재고 변경을 반영한다. 품절이면 soldOutTtl 동안 주문을 바로 거절한다.
+     * 커밋 후 이벤트는 순서가 뒤바뀔 수 있어 품절 표시는 만료되게 두고, 해제는 언제 와도 그대로 반영한다.
+     */
+    public void stockChanged(Long productId, boolean soldOut) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Lane lane = getLane(productId);
+        if (!soldOut) {
+            lane.soldOutUntil = 0;
+        } else {
+            lane.soldOutUntil = System.nanoTime() + properties.getSoldOutTtl().toNanos();
+            log.debug("Order admission marked sold out productId : {}", productId);
+        }
+    }
+
+    private Lane getLane(Long productId) {
+        return lanes.get(productId, id -> new Lane(id, properties.getPermitsPerProduct()));
+    }
+
+    /**
+     * 주문 처리가 끝나면 닫아서 허가를 반환한다.
+     */
+    @FunctionalInterface
+    public interface Admission extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    /**
+     * 상품 하나의 허가와 품절 표시.
+     */
+    private static class Lane {
+
+        private final Long productId;
+        private final Semaphore permits;
+        private volatile long soldOutUntil;
+
+        private Lane(Long productId, int permits) {
+            this.productId = productId;
+            this.permits = new Semaphore(permits, true);
+        }
+
+        private void checkAvailable() {
+            long until = soldOutUntil;
+            if (until != 0 && System.nanoTime() - until < 0) {
+                throw ProductStock.OUT_OF_STOCK;
+            }
+        }
+
+        private boolean acquire(AtomicInteger waiting, int maxWaiting, long maxWaitNanos) {
+            if (permits.tryAcquire()) {
+                return true;
+            }
+            if (waiting.incrementAndGet() > maxWaiting) {
+                waiting.decrementAndGet();
+                return false;
+            }
+            try {
+                return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+
+        private void release() {
+            permits.release();
+        }
+    }
+}
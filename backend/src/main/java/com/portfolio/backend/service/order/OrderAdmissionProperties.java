@@ -0,0 +1,40 @@
+package com.portfolio.backend.service.order;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "order.admission")
+public class OrderAdmissionProperties {
+
+    // false 이면 입장 제어 없이 모든 주문 요청을 바로 처리한다.
+    private boolean enabled = true;
+
+    // 상품별로 동시에 주문 트랜잭션을 열 수 있는 요청 수
+    private int permitsPerProduct = 8;
+
+    // 인스턴스 전체에서 허가를 기다릴 수 있는 요청 수. 넘치면 바로 429 로 거절하고, 0 이면 기다리지 않는다.
+    // 기다리는 요청은 톰캣 스레드를 잡고 있으므로 server.tomcat.threads.max(기본 200)보다 충분히 작게 둔다.
+    private int maxWaiting = 32;
+
+    // 허가를 기다리는 최대 시간. 넘기면 429 로 거절한다.
+    private Duration maxWait = Duration.ofMillis(500);
+
+    // 429 응답의 Retry-After
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    // 품절 표시를 믿는 시간. 재입고 이벤트를 놓쳐도 이 시간이 지나면 다시 주문을 받는다.
+    private Duration soldOutTtl = Duration.ofSeconds(10);
+
+    // 이 시간 동안 주문이 없던 상품의 허가와 품절 표시를 지운다. 주문 트랜잭션과 soldOutTtl 보다 길게 둔다.
+    private Duration laneIdleTtl = Duration.ofMinutes(10);
+
+    public OrderAdmissionProperties() {}
+
+}
@@ -3,6 +3,7 @@ package com.portfolio.backend.service.order;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.f4b6a3.ulid.UlidCreator;
+import com.portfolio.backend.common.event.EventPublisher;
 import com.portfolio.backend.common.event.payload.OrderPaymentEventPayload;
 import com.portfolio.backend.common.exception.DomainException;
 import com.portfolio.backend.common.exception.ResourceNotFoundException;
@@ -12,8 +13,11 @@ import com.portfolio.backend.domain.common.outbox.SagaType;
 import com.portfolio.backend.domain.order.entity.Order;
 import com.portfolio.backend.domain.order.outbox.PaymentOutbox;
 import com.portfolio.backend.domain.order.repository.OrderRepository;
+import com.portfolio.backend.domain.order.repository.OrderSummaryRepository;
 import com.portfolio.backend.domain.order.repository.PaymentOutboxRepository;
 import com.portfolio.backend.domain.common.outbox.SagaStatus;
+import com.portfolio.backend.service.common.outbox.OutboxSavedEvent;
+import com.portfolio.backend.service.common.outbox.OutboxType;
 import com.portfolio.backend.service.order.dto.OrderServiceMapper;
 import com.portfolio.backend.service.order.dto.OrderServiceRequest;
 import com.portfolio.backend.service.order.dto.OrderServiceResponse;
@@ -33,17 +37,21 @@ import java.util.UUID;
 public class OrderService {
 
     private final OrderRepository orderRepository;
+    private final OrderSummaryRepository orderSummaryRepository;
     private final PaymentOutboxRepository paymentOutboxRepository;
     private final ProductCartRepository productCartRepository;
 
     private final OrderServiceMapper orderServiceMapper;
+    private final OrderSummaryProjector orderSummaryProjector;
     private final ObjectMapper objectMapper;
+    private final EventPublisher eventPublisher;
 
     @Transactional
     public void createOrder(Long userId, OrderServiceRequest.Create request) {
         Order order = orderServiceMapper.createOrder(userId, request);
 
         orderRepository.save(order);
+        orderSummaryProjector.created(order);
 
         ProductCart productCart = productCartRepository.findByUserId(userId)
                 .orElseThrow(() -> new DomainException("장바구니가 존재하지 않습니다."));
@@ -64,6 +72,7 @@ public class OrderService {
                 .orderStatus(order.getOrderStatus())
                 .sagaStatus(SagaStatus.STARTED)
                 .build());
+        eventPublisher.publishEvent(new OutboxSavedEvent(OutboxType.PAYMENT));
     }
 
     @Transactional
@@ -72,6 +81,7 @@ public class OrderService {
                 .orElseThrow(() -> new ResourceNotFoundException("주문이 존재하지 않습니다."));
 
         order.canceling();
+        eventPublisher.publishDomainEventsFrom(order);
 
         OrderPaymentEventPayload payload = OrderPaymentEventPayload.builder()
                 .userId(userId)
@@ -88,12 +98,13 @@ public class OrderService {
                 .orderStatus(order.getOrderStatus())
                 .sagaStatus(SagaStatus.STARTED)
                 .build());
+        eventPublisher.publishEvent(new OutboxSavedEvent(OutboxType.PAYMENT));
     }
 
     @Transactional(readOnly = true)
     public Page<OrderServiceResponse.Get> getPage(Long userId, Pageable pageable) {
-        return orderRepository.findAllByUserId(userId, pageable)
-                .map(orderServiceMapper::toGet);
+        return orderSummaryRepository.findAllByUserId(userId, pageable)
+                .map(orderSummaryProjector::toGet);
     }
 
     @Transactional(readOnly = true)
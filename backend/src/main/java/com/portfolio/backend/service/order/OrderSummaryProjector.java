@@ -0,0 +1,82 @@
+package com.portfolio.backend.service.order;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.common.exception.DomainException;
+import com.portfolio.backend.domain.order.entity.Order;
+import com.portfolio.backend.domain.order.entity.OrderSummary;
+import com.portfolio.backend.domain.order.event.OrderStatusChangedEvent;
+import com.portfolio.backend.domain.order.repository.OrderSummaryRepository;
+import com.portfolio.backend.service.order.dto.OrderServiceMapper;
+import com.portfolio.backend.service.order.dto.OrderServiceResponse;
+import com.portfolio.backend.service.order.dto.OrderSummaryDetail;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 목록 읽기 모델(order_summaries)을 주문과 같은 트랜잭션에서 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryProjector {
+
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrderServiceMapper orderServiceMapper;
+    private final ObjectMapper objectMapper;
+
+    public void created(Order order) {
+        OrderServiceResponse.Get get = orderServiceMapper.toGet(order);
+
+        orderSummaryRepository.save(OrderSummary.builder()
+                .id(order.getId())
+                .userId(order.getUser().getId())
+                .orderStatus(order.getOrderStatus())
+                .totalPrice(order.getTotalPrice())
+                .detail(writeDetail(order, new OrderSummaryDetail(get.deliveryInfo(), get.orderItems())))
+                .createdAt(order.getCreatedAt())
+                .build());
+    }
+
+    @EventListener
+    public void handleOrderStatusChangedEvent(OrderStatusChangedEvent event) {
+        log.debug("OrderStatusChangedEvent received orderId : {}, status : {}", event.getOrderId(), event.getOrderStatus());
+
+        if (orderSummaryRepository.updateOrderStatus(event.getOrderId(), event.getOrderStatus()) == 0) {
+            log.warn("주문 요약 정보가 존재하지 않습니다. orderId : {}", event.getOrderId());
+        }
+    }
+
+    public OrderServiceResponse.Get toGet(OrderSummary summary) {
+        OrderSummaryDetail detail = readDetail(summary);
+
+        return new OrderServiceResponse.Get(
+                summary.getId().toString(),
+                summary.getOrderStatus(),
+                detail.deliveryInfo(),
+                summary.getTotalPrice(),
+                detail.orderItems(),
+                summary.getCreatedAt()
+        );
+    }
+
+    private String writeDetail(Order order, OrderSummaryDetail detail) {
+        try {
+            return objectMapper.writeValueAsString(detail);
+        } catch (JsonProcessingException e) {
+            log.error("OrderSummaryDetail을 만드는데 실패했습니다. orderId: {}", order.getId(), e);
+            throw new DomainException("OrderSummaryDetail을 만드는데 실패했습니다. orderId :" + order.getId(), e);
+        }
+    }
+
+    private OrderSummaryDetail readDetail(OrderSummary summary) {
+        try {
+            return objectMapper.readValue(summary.getDetail(), OrderSummaryDetail.class);
+        } catch (JsonProcessingException e) {
+            log.error("OrderSummaryDetail을 읽는데 실패했습니다. orderId: {}", summary.getId(), e);
+            throw new DomainException("OrderSummaryDetail을 읽는데 실패했습니다. orderId :" + summary.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.portfolio.backend.service.order.dto;
+
+import java.util.List;
+
+/**
+ * order_summaries.detail 컬럼에 저장되는 JSON. 필드명을 바꾸면 기존 행과 마이그레이션도 함께 바꿔야 한다.
+ */
+public record OrderSummaryDetail(
+        OrderServiceResponse.DeliveryInfo deliveryInfo,
+        List<OrderServiceResponse.OrderItem> orderItems
+) {
+}
@@ -0,0 +1,37 @@
+package com.portfolio.backend.service.order.listener;
+
+import com.portfolio.backend.domain.product.entity.Product;
+import com.portfolio.backend.domain.product.entity.ProductStatus;
+import com.portfolio.backend.domain.product.event.ProductStockChangedEvent;
+import com.portfolio.backend.service.order.OrderAdmissionGate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderAdmissionEventListener {
+
+    private final OrderAdmissionGate orderAdmissionGate;
+
+    /**
+     * 롤백된 변경으로 품절 표시가 바뀌지 않도록 커밋 후에 반영한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductStockChangedEvent(ProductStockChangedEvent event) {
+        Product product = event.getProduct();
+        if (product.getId() == null) {
+            return;
+        }
+        // 이벤트 수량은 행(조각) 하나 기준이라 상품 품절 여부는 상품 상태로 판단한다.
+        // 행이 0 이 된 변경만 잠금 아래에서 상태를 다시 정하므로, 그 이벤트의 상태만 품절 근거로 쓴다.
+        boolean rowEmptied = event.getPreviousQuantity() + event.getChangedQuantity() <= 0;
+        boolean soldOut = rowEmptied && product.getStatus() != ProductStatus.ACTIVE;
+        log.debug("ProductStockChangedEvent received, update order admission productId : {}, soldOut : {}", product.getId(), soldOut);
+
+        orderAdmissionGate.stockChanged(product.getId(), soldOut);
+    }
+}
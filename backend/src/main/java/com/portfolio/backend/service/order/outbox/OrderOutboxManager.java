@@ -3,6 +3,7 @@ package com.portfolio.backend.service.order.outbox;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.f4b6a3.ulid.UlidCreator;
+import com.portfolio.backend.common.event.EventPublisher;
 import com.portfolio.backend.common.event.PaymentStatus;
 import com.portfolio.backend.common.event.ProductStockStatus;
 import com.portfolio.backend.common.event.payload.ProductStockReductionEventPayload;
@@ -21,6 +22,8 @@ import com.portfolio.backend.domain.user.outbox.UserCreditOrderOutbox;
 import com.portfolio.backend.domain.user.repository.UserCreditOrderOutboxRepository;
 import com.portfolio.backend.domain.common.outbox.OutboxStatus;
 import com.portfolio.backend.domain.common.outbox.SagaStatus;
+import com.portfolio.backend.service.common.outbox.OutboxSavedEvent;
+import com.portfolio.backend.service.common.outbox.OutboxType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
@@ -42,6 +45,7 @@ public class OrderOutboxManager {
     private final OrderRepository orderRepository;
 
     private final ObjectMapper objectMapper;
+    private final EventPublisher eventPublisher;
 
     private final ProductStockOrderOutboxRepository productStockOrderOutboxRepository;
     private final UserCreditOrderOutboxRepository userCreditOrderOutboxRepository;
@@ -64,6 +68,7 @@ public class OrderOutboxManager {
                     .build();
 
             userCreditOrderOutboxRepository.save(userCreditOrderOutbox);
+            eventPublisher.publishEvent(new OutboxSavedEvent(OutboxType.USER_CREDIT_ORDER));
         } catch (OptimisticLockingFailureException e) {
             // No-Op
         } catch (ResourceNotFoundException e) {
@@ -92,6 +97,7 @@ public class OrderOutboxManager {
                     .build();
 
             userCreditOrderOutboxRepository.save(userCreditOrderOutbox);
+            eventPublisher.publishEvent(new OutboxSavedEvent(OutboxType.USER_CREDIT_ORDER));
         } catch (OptimisticLockingFailureException e) {
             // No-Op
         } catch (ResourceNotFoundException e) {
@@ -146,6 +152,8 @@ public class OrderOutboxManager {
                     publishProductStockOutbox(paymentOutbox, order);
                 }
             }
+
+            eventPublisher.publishDomainEventsFrom(order);
         } catch (OptimisticLockingFailureException e) {
             // No-Op
         } catch (ResourceNotFoundException e) {
@@ -177,6 +185,7 @@ public class OrderOutboxManager {
                 .build();
 
         productStockOutboxRepository.save(productStockOutbox);
+        eventPublisher.publishEvent(new OutboxSavedEvent(OutboxType.PRODUCT_STOCK));
     }
 
     @Transactional
@@ -196,6 +205,7 @@ public class OrderOutboxManager {
                     .build();
 
             productStockOrderOutboxRepository.save(productStockOrderOutbox);
+            eventPublisher.publishEvent(new OutboxSavedEvent(OutboxType.PRODUCT_STOCK_ORDER));
         } catch (OptimisticLockingFailureException e) {
             // No-Op
         } catch (ResourceNotFoundException e) {
@@ -224,6 +234,7 @@ public class OrderOutboxManager {
                     .build();
 
             productStockOrderOutboxRepository.save(productStockOrderOutbox);
+            eventPublisher.publishEvent(new OutboxSavedEvent(OutboxType.PRODUCT_STOCK_ORDER));
         } catch (OptimisticLockingFailureException e) {
             // No-Op
         } catch (ResourceNotFoundException e) {
@@ -270,6 +281,7 @@ public class OrderOutboxManager {
                             .orElseThrow(() -> new DomainException("PaymentOutbox가 존재하지 않습니다."));
                     paymentOutbox.setSagaStatus(SagaStatus.COMPENSATING);
                     paymentOutboxRepository.save(paymentOutbox);
+                    eventPublisher.publishEvent(new OutboxSavedEvent(OutboxType.PAYMENT));
                 }
                 case COMPENSATED -> {
                     order.cancel();
@@ -288,6 +300,8 @@ public class OrderOutboxManager {
                     paymentOutboxRepository.save(paymentOutbox);
                 }
             }
+
+            eventPublisher.publishDomainEventsFrom(order);
         } catch (OptimisticLockingFailureException e) {
             // No-Op
         } catch (ResourceNotFoundException e) {
@@ -310,6 +324,7 @@ public class OrderOutboxManager {
             userCreditOrderOutbox.setOutboxStatus(OutboxStatus.STARTED);
             userCreditOrderOutbox.setPaymentStatus(PaymentStatus.COMPENSATING);
             userCreditOrderOutboxRepository.save(userCreditOrderOutbox);
+            eventPublisher.publishEvent(new OutboxSavedEvent(OutboxType.USER_CREDIT_ORDER));
         } catch (OptimisticLockingFailureException e) {
             // No-Op
         } catch (ResourceNotFoundException e) {
@@ -1,22 +1,22 @@
 package com.portfolio.backend.service.order.outbox.scheduler;
 
 import com.portfolio.backend.domain.common.outbox.SagaType;
-import com.portfolio.backend.domain.order.outbox.PaymentOutbox;
-import com.portfolio.backend.domain.order.outbox.ProductStockOutbox;
 import com.portfolio.backend.domain.order.repository.PaymentOutboxRepository;
 import com.portfolio.backend.domain.order.repository.ProductStockOutboxRepository;
 import com.portfolio.backend.domain.common.outbox.OutboxStatus;
 import com.portfolio.backend.domain.common.outbox.SagaStatus;
+import com.portfolio.backend.service.common.outbox.OutboxDispatcher;
+import com.portfolio.backend.service.common.outbox.OutboxPhase;
+import com.portfolio.backend.service.common.outbox.OutboxRelay;
+import com.portfolio.backend.service.common.outbox.OutboxType;
 import com.portfolio.backend.service.order.outbox.OrderOutboxManager;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.Optional;
-
 @Slf4j
 @Component
 @EnableScheduling
@@ -26,47 +26,57 @@ public class OrderOutboxScheduler {
     private final PaymentOutboxRepository paymentOutboxRepository;
     private final ProductStockOutboxRepository productStockOutboxRepository;
     private final OrderOutboxManager orderOutboxManager;
+    private final OutboxRelay outboxRelay;
+    private final OutboxDispatcher outboxDispatcher;
 
-    @Scheduled(fixedRate = 5000)
-    public void processOrderOutbox() {
-        Optional<List<PaymentOutbox>> paymentOutboxesResponse = paymentOutboxRepository.findAllBySagaTypeAndOutboxStatusIsNull(SagaType.ORDER);
-        Optional<List<ProductStockOutbox>> productStockOutboxesResponse = productStockOutboxRepository.findAllBySagaTypeAndOutboxStatusIsNull(SagaType.ORDER);
-        Optional<List<PaymentOutbox>> cancelOutboxesResponse = paymentOutboxRepository.findAllBySagaTypeAndOutboxStatusIsNull(SagaType.ORDER_CANCELING);
-        Optional<List<ProductStockOutbox>> cancelStockOutboxesResponse = productStockOutboxRepository.findAllBySagaTypeAndOutboxStatusIsNull(SagaType.ORDER_CANCELING);
+    @PostConstruct
+    public void register() {
+        outboxDispatcher.register(OutboxType.PAYMENT, OutboxPhase.PROCESS, this::processPaymentOutbox);
+        outboxDispatcher.register(OutboxType.PAYMENT, OutboxPhase.COMPENSATION, this::processCompensatingPaymentOutbox);
+        outboxDispatcher.register(OutboxType.PRODUCT_STOCK, OutboxPhase.PROCESS, this::processProductStockOutbox);
+    }
 
-        if (paymentOutboxesResponse.isPresent() && !paymentOutboxesResponse.get().isEmpty()) {
-            List<PaymentOutbox> paymentOutboxes = paymentOutboxesResponse.get();
-            log.info("Processing payment outbox size: {}", paymentOutboxes.size());
-            paymentOutboxes.forEach(orderOutboxManager::paymentOutboxProcess);
-        }
+    // 커밋 직후 OutboxDispatcher 가 먼저 처리하고, 스케줄러는 놓친 행을 위해 각 레인을 깨우기만 한다.
+    @Scheduled(fixedDelayString = "${outbox.relay.sweep-interval}")
+    public void processOrderOutbox() {
+        outboxDispatcher.signal(OutboxType.PAYMENT);
+        outboxDispatcher.signal(OutboxType.PRODUCT_STOCK);
+    }
 
-        if (productStockOutboxesResponse.isPresent() && !productStockOutboxesResponse.get().isEmpty()) {
-            List<ProductStockOutbox> productStockOutboxes = productStockOutboxesResponse.get();
-            log.info("Processing product stock outbox size: {}", productStockOutboxes.size());
-            productStockOutboxes.forEach(orderOutboxManager::productStockOutboxProcess);
-        }
+    private void processPaymentOutbox() {
+        outboxRelay.relay("payment",
+                (claimExpiredAt, pageable) -> paymentOutboxRepository.findClaimableBySagaType(SagaType.ORDER, claimExpiredAt, pageable),
+                paymentOutboxRepository::markClaimed,
+                paymentOutboxRepository::extendClaim,
+                orderOutboxManager::paymentOutboxProcess);
 
-        if (cancelOutboxesResponse.isPresent() && !cancelOutboxesResponse.get().isEmpty()) {
-            List<PaymentOutbox> paymentOutboxes = cancelOutboxesResponse.get();
-            log.info("Processing cancel outbox size: {}", paymentOutboxes.size());
-            paymentOutboxes.forEach(orderOutboxManager::paymentOutboxCancelProcess);
-        }
+        outboxRelay.relay("cancel",
+                (claimExpiredAt, pageable) -> paymentOutboxRepository.findClaimableBySagaType(SagaType.ORDER_CANCELING, claimExpiredAt, pageable),
+                paymentOutboxRepository::markClaimed,
+                paymentOutboxRepository::extendClaim,
+                orderOutboxManager::paymentOutboxCancelProcess);
+    }
 
-        if (cancelStockOutboxesResponse.isPresent() && !cancelStockOutboxesResponse.get().isEmpty()) {
-            List<ProductStockOutbox> productStockOutboxes = cancelStockOutboxesResponse.get();
-            log.info("Processing product stock cancel outbox size: {}", productStockOutboxes.size());
-            productStockOutboxes.forEach(orderOutboxManager::productStockOutboxCancelProcess);
-        }
+    private void processCompensatingPaymentOutbox() {
+        outboxRelay.relay("compensating payment",
+                (claimExpiredAt, pageable) -> paymentOutboxRepository.findClaimableBySagaStatusAndOutboxStatus(
+                        SagaStatus.COMPENSATING, OutboxStatus.COMPLETED, claimExpiredAt, pageable),
+                paymentOutboxRepository::markClaimed,
+                paymentOutboxRepository::extendClaim,
+                orderOutboxManager::paymentOutboxCompensation);
     }
 
-    @Scheduled(fixedRate = 5000)
-    public void processCompensating() {
-        Optional<List<PaymentOutbox>> compensatingOutboxesResponse = paymentOutboxRepository.findAllBySagaStatusAndOutboxStatus(SagaStatus.COMPENSATING, OutboxStatus.COMPLETED);
+    private void processProductStockOutbox() {
+        outboxRelay.relay("product stock",
+                (claimExpiredAt, pageable) -> productStockOutboxRepository.findClaimableBySagaType(SagaType.ORDER, claimExpiredAt, pageable),
+                productStockOutboxRepository::markClaimed,
+                productStockOutboxRepository::extendClaim,
+                orderOutboxManager::productStockOutboxProcess);
 
-        if (compensatingOutboxesResponse.isPresent() && !compensatingOutboxesResponse.get().isEmpty()) {
-            List<PaymentOutbox> paymentOutboxes = compensatingOutboxesResponse.get();
-            log.info("Compensating payment outbox size: {}", paymentOutboxes.size());
-            paymentOutboxes.forEach(orderOutboxManager::paymentOutboxCompensation);
-        }
+        outboxRelay.relay("product stock cancel",
+                (claimExpiredAt, pageable) -> productStockOutboxRepository.findClaimableBySagaType(SagaType.ORDER_CANCELING, claimExpiredAt, pageable),
+                productStockOutboxRepository::markClaimed,
+                productStockOutboxRepository::extendClaim,
+                orderOutboxManager::productStockOutboxCancelProcess);
     }
 }
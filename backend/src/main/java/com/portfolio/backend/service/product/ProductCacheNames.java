@@ -0,0 +1,18 @@
+package com.portfolio.backend.service.product;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductCacheNames {
+
+    // 상품 상세 (key: 상품 ID)
+    public static final String PRODUCT = "product";
+
+    // 상품 목록 (단일 키)
+    public static final String PRODUCTS = "products";
+
+    // 상품 목록 캐시 키. 직접 evict 할 때는 PRODUCTS_ALL, 캐시 애노테이션에는 같은 값의 SpEL 리터럴인 PRODUCTS_KEY 를 쓴다.
+    public static final String PRODUCTS_ALL = "all";
+    public static final String PRODUCTS_KEY = "'" + PRODUCTS_ALL + "'";
+}
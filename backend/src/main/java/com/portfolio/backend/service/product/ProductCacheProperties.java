@@ -0,0 +1,27 @@
+package com.portfolio.backend.service.product;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "product.cache")
+public class ProductCacheProperties {
+
+    // false 이면 캐시 없이 매번 DB 에서 읽는다.
+    private boolean enabled = true;
+
+    // 캐시별 최대 항목 수
+    private long maximumSize = 1000;
+
+    // 무효화가 누락되더라도 이 시간이 지나면 다시 읽는다.
+    private Duration ttl = Duration.ofMinutes(5);
+
+    public ProductCacheProperties() {}
+
+}
@@ -0,0 +1,84 @@
+package com.portfolio.backend.service.product;
+
+import com.portfolio.backend.domain.product.entity.ProductCatalog;
+import com.portfolio.backend.domain.product.repository.ProductCatalogRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 목록의 조건부 GET 검증자. 목록을 바꾸는 쓰기마다 product_catalog 한 행의 버전을 올려, 검증 비용이 카탈로그 크기와 무관하게 한다.
+ * <p>
+ * 버전은 목록을 바꾼 트랜잭션 안에서 올리므로 내용과 함께 커밋되고, 롤백되면 함께 되돌아간다.
+ * 올리기 전에 목록 캐시를 먼저 비워, 새 버전이 보일 때 이전 목록이 캐시에 남아 있지 않게 한다.
+ * 커밋하는 사이 다시 채워진 목록은 트랜잭션 인지 캐시의 커밋 후 evict 가 지운다.
+ * 버전 행은 커밋될 때까지 잠겨 있으므로 목록을 바꾸는 트랜잭션은 끝에서 잠깐씩 줄을 선다.
+ */
+@Component
+public class ProductCatalogVersion {
+
+    private final ProductCatalogRepository productCatalogRepository;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public ProductCatalogVersion(ProductCatalogRepository productCatalogRepository,
+                                 CacheManager cacheManager,
+                                 PlatformTransactionManager transactionManager) {
+        this.productCatalogRepository = productCatalogRepository;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Flyway 를 쓰지 않는 프로필(H2)은 JPA 가 빈 테이블만 만들므로 버전 행을 채운다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (!productCatalogRepository.existsById(ProductCatalog.ID)) {
+            productCatalogRepository.save(ProductCatalog.create());
+        }
+    }
+
+    public long current() {
+        return productCatalogRepository.findVersion().orElse(0L);
+    }
+
+    /**
+     * 목록이 바뀌었음을 알린다. 같은 트랜잭션에서 여러 번 호출해도 한 번만 올린다.
+     * 행 잠금을 짧게 잡도록 트랜잭션의 마지막 쓰기 뒤에 호출한다.
+     */
+    public void touch() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictProducts();
+            transactionTemplate.executeWithoutResult(status -> productCatalogRepository.incrementVersion());
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResource(ProductCatalogVersion.this);
+            }
+        });
+        evictProducts();
+        productCatalogRepository.incrementVersion();
+    }
+
+    // 트랜잭션 인지 캐시의 evict 는 커밋 후로 미뤄지므로, 버전보다 먼저 비우려면 바로 지우는 evictIfPresent 를 쓴다.
+    private void evictProducts() {
+        Cache cache = cacheManager.getCache(ProductCacheNames.PRODUCTS);
+        if (cache != null) {
+            cache.evictIfPresent(ProductCacheNames.PRODUCTS_ALL);
+        }
+    }
+}
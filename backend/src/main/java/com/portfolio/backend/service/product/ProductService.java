@@ -2,15 +2,23 @@ package com.portfolio.backend.service.product;
 
 import com.portfolio.backend.common.exception.ResourceNotFoundException;
 import com.portfolio.backend.common.event.EventPublisher;
+import com.portfolio.backend.common.util.CursorUtils;
 import com.portfolio.backend.domain.product.entity.Product;
 import com.portfolio.backend.domain.product.entity.ProductStatus;
 import com.portfolio.backend.domain.product.repository.ProductRepository;
 import com.portfolio.backend.domain.product.service.ProductStockManager;
+import com.portfolio.backend.domain.product.service.dto.ProductVersionDto;
+import com.portfolio.backend.service.common.dto.CursorPage;
+import com.portfolio.backend.service.common.dto.ResourceVersion;
 import com.portfolio.backend.service.product.dto.ProductServiceMapper;
 import com.portfolio.backend.service.product.dto.ProductServiceRequest;
 import com.portfolio.backend.service.product.dto.ProductServiceResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,23 +31,58 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final ProductStockManager productStockManager;
+    private final ProductCatalogVersion productCatalogVersion;
     private final EventPublisher eventPublisher;
     private final ProductServiceMapper productServiceMapper;
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = ProductCacheNames.PRODUCTS, key = ProductCacheNames.PRODUCTS_KEY)
     public List<ProductServiceResponse.SimpleGet> getProducts() {
-        List<Product> products = productRepository.findAllByStatusNot(ProductStatus.DELETED);
+        List<Product> products = productRepository.findAllWithStockByStatusNot(ProductStatus.DELETED);
         return products.stream().map(productServiceMapper::toSimpleGet).toList();
     }
 
     @Transactional(readOnly = true)
+    public ResourceVersion getProductsVersion() {
+        return ResourceVersion.of("products", productCatalogVersion.current());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ProductServiceResponse.SimpleGet> getProductPage(ProductServiceRequest.Search request) {
+        int size = request.pageSize();
+        Long cursor = CursorUtils.decode(request.cursor());
+        // 첫 페이지도 id 범위 조건으로 읽어 인덱스를 역순으로 훑게 한다.
+        long before = cursor == null ? Long.MAX_VALUE : cursor;
+        List<Product> products = request.category() == null
+                ? productRepository.findPageWithStock(request.status(), before, PageRequest.ofSize(size + 1))
+                : productRepository.findPageWithStockByCategory(request.category(), request.status(), before, PageRequest.ofSize(size + 1));
+
+        return CursorPage.of(products, size, Product::getId, productServiceMapper::toSimpleGet);
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion getProductVersion(Long id) {
+        ProductVersionDto version = productRepository.findVersionByIdAndStatusNot(id, ProductStatus.DELETED)
+                .orElseThrow(() -> new ResourceNotFoundException("상품을 찾을 수 없습니다. ID: " + id));
+        return ResourceVersion.of("product",
+                version.getProductId(),
+                version.getStockVersion(),
+                version.getBucketVersionSum(),
+                version.getUpdatedAt(),
+                version.getStockUpdatedAt(),
+                version.getBucketUpdatedAt());
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = ProductCacheNames.PRODUCT, key = "#id")
     public ProductServiceResponse.Get getProduct(Long id) {
-        Product product = productRepository.findByIdAndStatusNot(id, ProductStatus.DELETED)
+        Product product = productRepository.findWithStockByIdAndStatusNot(id, ProductStatus.DELETED)
                 .orElseThrow(() -> new ResourceNotFoundException("상품을 찾을 수 없습니다. ID: " + id));
         return productServiceMapper.toGet(product);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = ProductCacheNames.PRODUCTS, key = ProductCacheNames.PRODUCTS_KEY)
     public Long createProduct(ProductServiceRequest.Create request) {
         Product product = Product.builder()
                 .name(request.name())
@@ -52,6 +95,7 @@ public class ProductService {
                 .build();
 
         Product savedProduct = productRepository.save(product);
+        productCatalogVersion.touch();
 
         eventPublisher.publishDomainEventsFrom(savedProduct);
 
@@ -59,6 +103,10 @@ public class ProductService {
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = ProductCacheNames.PRODUCT, key = "#id"),
+            @CacheEvict(cacheNames = ProductCacheNames.PRODUCTS, key = ProductCacheNames.PRODUCTS_KEY)
+    })
     public Long updateProduct(Long id, ProductServiceRequest.Update request) {
         Product product = productRepository.findByIdAndStatusNot(id, ProductStatus.DELETED)
                 .orElseThrow(() -> new ResourceNotFoundException("상품을 찾을 수 없습니다. ID: " + id));
@@ -71,11 +119,16 @@ public class ProductService {
                 request.thumbnailImageUrl(),
                 request.category()
         );
+        productCatalogVersion.touch();
 
         return product.getId();
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = ProductCacheNames.PRODUCT, key = "#id"),
+            @CacheEvict(cacheNames = ProductCacheNames.PRODUCTS, key = ProductCacheNames.PRODUCTS_KEY)
+    })
     public void deleteProduct(Long id) {
         Product product = productRepository.findByIdAndStatusNot(id, ProductStatus.DELETED)
                 .orElseThrow(() -> new ResourceNotFoundException("상품을 찾을 수 없습니다. ID: " + id));
@@ -83,5 +136,6 @@ public class ProductService {
         product.delete();
 
         productStockManager.deleted(product.getId());
+        productCatalogVersion.touch();
     }
 }
@@ -26,4 +26,12 @@ public class ProductStockService {
 
         productStockManager.adjust(product.getId(), request.quantity(), "재고 조정");
     }
+
+    @Transactional
+    public void rebalanceStock(Long productId, ProductStockServiceRequest.Rebalance request) {
+        Product product = productRepository.findByIdAndStatusNot(productId, ProductStatus.DELETED)
+                .orElseThrow(() -> new ResourceNotFoundException("상품을 찾을 수 없습니다. ID: " + productId));
+
+        productStockManager.rebalance(product.getId(), request.bucketCount());
+    }
 }
@@ -2,6 +2,8 @@ package com.portfolio.backend.service.product.dto;
 
 import com.portfolio.backend.domain.common.value.Money;
 import com.portfolio.backend.domain.product.entity.ProductCategory;
+import com.portfolio.backend.domain.product.entity.ProductStatus;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -64,4 +66,22 @@ public class ProductServiceRequest {
             String memo
     ) {
     }
+
+    public record Search(
+            String cursor,
+
+            @Positive(message = "페이지 크기는 양수여야 합니다.")
+            @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.")
+            Integer size,
+
+            ProductCategory category,
+
+            ProductStatus status
+    ) {
+        public static final int DEFAULT_SIZE = 20;
+
+        public int pageSize() {
+            return size == null ? DEFAULT_SIZE : size;
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package com.portfolio.backend.service.product.dto;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
 public class ProductStockServiceRequest {
@@ -14,4 +16,13 @@ public class ProductStockServiceRequest {
             String memo
     ) {
     }
+
+    public record Rebalance(
+            // 0 이면 조각을 없애고 재고 행 하나로 되돌린다.
+            @NotNull(message = "재고 조각 수는 필수입니다.")
+            @Min(value = 0, message = "재고 조각 수는 0 이상이어야 합니다.")
+            @Max(value = 64, message = "재고 조각 수는 64 이하여야 합니다.")
+            Integer bucketCount
+    ) {
+    }
 }
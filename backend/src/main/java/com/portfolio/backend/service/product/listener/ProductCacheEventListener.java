@@ -0,0 +1,42 @@
+package com.portfolio.backend.service.product.listener;
+
+import com.portfolio.backend.domain.product.event.ProductStockChangedEvent;
+import com.portfolio.backend.service.product.ProductCacheNames;
+import com.portfolio.backend.service.product.ProductCatalogVersion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCacheEventListener {
+
+    private final CacheManager cacheManager;
+    private final ProductCatalogVersion productCatalogVersion;
+
+    /**
+     * 커밋 직전에 등록해야 트랜잭션 인지 캐시가 커밋 이후 evict 를 실행한다.
+     * (AFTER_COMMIT 단계에서 등록한 동기화는 실행되지 않는다) 목록 버전은 재고 변경과 함께 커밋되도록 여기서 올린다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handleProductStockChangedEvent(ProductStockChangedEvent event) {
+        Long productId = event.getProduct().getId();
+        log.debug("ProductStockChangedEvent received, evict product cache productId : {}", productId);
+
+        evict(ProductCacheNames.PRODUCT, productId);
+        evict(ProductCacheNames.PRODUCTS, ProductCacheNames.PRODUCTS_ALL);
+        productCatalogVersion.touch();
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+}
@@ -14,6 +14,8 @@ import com.portfolio.backend.domain.product.service.ProductStockManager;
 import com.portfolio.backend.domain.product.service.dto.ProductStockItemDto;
 import com.portfolio.backend.domain.common.outbox.OutboxStatus;
 import com.portfolio.backend.service.order.outbox.event.ProductStockReductionResponseEvent;
+import com.portfolio.backend.service.common.outbox.OutboxSavedEvent;
+import com.portfolio.backend.service.common.outbox.OutboxType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
@@ -61,6 +63,7 @@ public class ProductStockOrderOutboxManager {
             productStockOrderOutbox.setOutboxStatus(OutboxStatus.STARTED);
             productStockOrderOutbox.setProcessedAt(LocalDateTime.now());
             productStockOrderOutboxRepository.save(productStockOrderOutbox);
+            eventPublisher.publishEvent(new OutboxSavedEvent(OutboxType.PRODUCT_STOCK_ORDER));
 
         } catch (OptimisticLockingFailureException e) {
             // No Op
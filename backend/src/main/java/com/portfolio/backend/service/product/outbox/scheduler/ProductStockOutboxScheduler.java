@@ -1,19 +1,20 @@
 package com.portfolio.backend.service.product.outbox.scheduler;
 
 import com.portfolio.backend.common.event.ProductStockStatus;
-import com.portfolio.backend.domain.product.outbox.ProductStockOrderOutbox;
 import com.portfolio.backend.domain.product.repository.ProductStockOrderOutboxRepository;
 import com.portfolio.backend.domain.common.outbox.OutboxStatus;
+import com.portfolio.backend.service.common.outbox.OutboxDispatcher;
+import com.portfolio.backend.service.common.outbox.OutboxPhase;
+import com.portfolio.backend.service.common.outbox.OutboxRelay;
+import com.portfolio.backend.service.common.outbox.OutboxType;
 import com.portfolio.backend.service.product.outbox.ProductStockOrderOutboxManager;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.Optional;
-
 @Slf4j
 @Component
 @EnableScheduling
@@ -22,35 +23,45 @@ public class ProductStockOutboxScheduler {
 
     private final ProductStockOrderOutboxRepository productStockOrderOutboxRepository;
     private final ProductStockOrderOutboxManager productStockOrderOutboxManager;
+    private final OutboxRelay outboxRelay;
+    private final OutboxDispatcher outboxDispatcher;
+
+    @PostConstruct
+    public void register() {
+        outboxDispatcher.register(OutboxType.PRODUCT_STOCK_ORDER, OutboxPhase.PROCESS, this::processProductStockOrderOutbox);
+        outboxDispatcher.register(OutboxType.PRODUCT_STOCK_ORDER, OutboxPhase.FAILURE, this::processFailureProductStockOrderOutbox);
+        outboxDispatcher.register(OutboxType.PRODUCT_STOCK_ORDER, OutboxPhase.COMPENSATION, this::processCompensatingProductStockOrderOutbox);
+    }
 
-    @Scheduled(fixedRate = 5000)
+    // 커밋 직후 OutboxDispatcher 가 먼저 처리하고, 스케줄러는 놓친 행을 위해 각 레인을 깨우기만 한다.
+    @Scheduled(fixedDelayString = "${outbox.relay.sweep-interval}")
     public void processOrderOutbox() {
-        Optional<List<ProductStockOrderOutbox>> response = productStockOrderOutboxRepository.findAllByOutboxStatusIsNull();
-        Optional<List<ProductStockOrderOutbox>> failureResponse = productStockOrderOutboxRepository
-                .findAllByOutboxStatusAndProductStockStatus(OutboxStatus.STARTED, ProductStockStatus.FAILED);
-
-        if (response.isPresent() && !response.get().isEmpty()) {
-            List<ProductStockOrderOutbox> productStockOrderOutboxes = response.get();
-            log.info("Processing product stock outbox size: {}", productStockOrderOutboxes.size());
-            productStockOrderOutboxes.forEach(productStockOrderOutboxManager::productStockOrderOutboxProcess);
-        }
-
-        if (failureResponse.isPresent() && !failureResponse.get().isEmpty()) {
-            List<ProductStockOrderOutbox> productStockOrderOutboxes = failureResponse.get();
-            log.info("Failure product stock outbox size: {}", productStockOrderOutboxes.size());
-            productStockOrderOutboxes.forEach(productStockOrderOutboxManager::productStockOrderOutboxFailure);
-        }
+        outboxDispatcher.signal(OutboxType.PRODUCT_STOCK_ORDER);
     }
 
-    @Scheduled(fixedRate = 5000)
-    public void processCompensating() {
-        Optional<List<ProductStockOrderOutbox>> compensatingOutboxesResponse = productStockOrderOutboxRepository
-                .findAllByOutboxStatusAndProductStockStatus(OutboxStatus.STARTED, ProductStockStatus.COMPENSATING);
+    private void processProductStockOrderOutbox() {
+        outboxRelay.relay("product stock order",
+                productStockOrderOutboxRepository::findClaimable,
+                productStockOrderOutboxRepository::markClaimed,
+                productStockOrderOutboxRepository::extendClaim,
+                productStockOrderOutboxManager::productStockOrderOutboxProcess);
+    }
+
+    private void processFailureProductStockOrderOutbox() {
+        outboxRelay.relay("failure product stock order",
+                (claimExpiredAt, pageable) -> productStockOrderOutboxRepository.findClaimableByOutboxStatusAndProductStockStatus(
+                        OutboxStatus.STARTED, ProductStockStatus.FAILED, claimExpiredAt, pageable),
+                productStockOrderOutboxRepository::markClaimed,
+                productStockOrderOutboxRepository::extendClaim,
+                productStockOrderOutboxManager::productStockOrderOutboxFailure);
+    }
 
-        if (compensatingOutboxesResponse.isPresent() && !compensatingOutboxesResponse.get().isEmpty()) {
-            List<ProductStockOrderOutbox> productStockOrderOutboxes = compensatingOutboxesResponse.get();
-            log.info("Compensating product stock outbox size: {}", productStockOrderOutboxes.size());
-            productStockOrderOutboxes.forEach(productStockOrderOutboxManager::productStockOrderOutboxCompensation);
-        }
+    private void processCompensatingProductStockOrderOutbox() {
+        outboxRelay.relay("compensating product stock order",
+                (claimExpiredAt, pageable) -> productStockOrderOutboxRepository.findClaimableByOutboxStatusAndProductStockStatus(
+                        OutboxStatus.STARTED, ProductStockStatus.COMPENSATING, claimExpiredAt, pageable),
+                productStockOrderOutboxRepository::markClaimed,
+                productStockOrderOutboxRepository::extendClaim,
+                productStockOrderOutboxManager::productStockOrderOutboxCompensation);
     }
 }
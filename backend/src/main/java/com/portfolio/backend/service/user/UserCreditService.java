@@ -2,31 +2,64 @@ package com.portfolio.backend.service.user;
 
 import com.portfolio.backend.common.exception.DomainException;
 import com.portfolio.backend.common.event.EventPublisher;
-import com.portfolio.backend.common.util.RetryUtils;
+import com.portfolio.backend.common.util.CursorUtils;
+import com.portfolio.backend.common.util.RetryExecutor;
 import com.portfolio.backend.domain.common.value.Money;
 import com.portfolio.backend.domain.user.entity.UserCredit;
 import com.portfolio.backend.domain.user.repository.UserCreditHistoryRepository;
+import com.portfolio.backend.domain.user.repository.UserCreditOrderOutboxRepository;
 import com.portfolio.backend.domain.user.repository.UserCreditRepository;
+import com.portfolio.backend.domain.user.service.dto.UserCreditHistoryItemDto;
+import com.portfolio.backend.service.common.dto.CursorPage;
 import com.portfolio.backend.service.user.dto.UserCreditServiceMapper;
 import com.portfolio.backend.service.user.dto.UserCreditServiceRequest;
 import com.portfolio.backend.service.user.dto.UserCreditServiceResponse.Get;
 import com.portfolio.backend.service.user.dto.UserCreditServiceResponse.GetHistoryPage;
-import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
-@RequiredArgsConstructor
 public class UserCreditService {
 
     private final UserCreditRepository userCreditRepository;
     private final EventPublisher eventPublisher;
     private final UserCreditHistoryRepository userCreditHistoryRepository;
+    private final UserCreditOrderOutboxRepository userCreditOrderOutboxRepository;
+    private final RetryExecutor retryExecutor;
+    private final TransactionTemplate attemptTransaction;
 
     private final UserCreditServiceMapper userCreditServiceMapper;
 
+    public UserCreditService(UserCreditRepository userCreditRepository,
+                             EventPublisher eventPublisher,
+                             UserCreditHistoryRepository userCreditHistoryRepository,
+                             UserCreditOrderOutboxRepository userCreditOrderOutboxRepository,
+                             RetryExecutor retryExecutor,
+                             PlatformTransactionManager transactionManager,
+                             UserCreditServiceMapper userCreditServiceMapper) {
+        this.userCreditRepository = userCreditRepository;
+        this.eventPublisher = eventPublisher;
+        this.userCreditHistoryRepository = userCreditHistoryRepository;
+        this.userCreditOrderOutboxRepository = userCreditOrderOutboxRepository;
+        this.retryExecutor = retryExecutor;
+        this.userCreditServiceMapper = userCreditServiceMapper;
+        // 재시도는 다른 스레드에서 실행되므로 첫 시도도 바깥 트랜잭션에 참여하지 않게 해 시도마다 경계를 같게 맞춘다.
+        this.attemptTransaction = new TransactionTemplate(transactionManager);
+        this.attemptTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
     @Transactional(readOnly = true)
     public Get getCurrentCredit(Long userId) {
         UserCredit credit = getCreditByUserId(userId);
@@ -35,32 +68,51 @@ public class UserCreditService {
 
     @Transactional
     public void pay(Long userId, Money amount, String description) {
-        RetryUtils.executeWithRetry(() -> {
-            UserCredit credit = getLockedCreditByUserId(userId);
-            credit.subtract(amount, description);
-            eventPublisher.publishDomainEventsFrom(credit);
-            return null;
-        }, "UserCredit Pay");
+        UserCredit.validateSubtractAmount(amount);
+
+        // 행을 미리 잠그지 않고 조건부 UPDATE 한 번으로 차감하며, 갱신된 행 수로 성공 여부를 판단한다.
+        int updated = userCreditRepository.subtractIfSufficient(userId, amount.getAmount(), LocalDateTime.now());
+        UserCredit credit = getCreditByUserId(userId);
+        if (updated == 0) {
+            throw UserCredit.INSUFFICIENT_BALANCE;
+        }
+
+        credit.subtracted(amount, description);
+        eventPublisher.publishDomainEventsFrom(credit);
     }
 
-    @Transactional
-    public void refund(Long userId, Money amount, String description) {
-        RetryUtils.executeWithRetry(() -> {
-            UserCredit credit = getLockedCreditByUserId(userId);
-            credit.add(amount, description);
-            eventPublisher.publishDomainEventsFrom(credit);
-            return null;
-        }, "UserCredit Refund");
+    /**
+     * 주문 보상 환불. 아웃박스 행의 보상 완료 표시와 환불을 한 트랜잭션에서 커밋하고,
+     * 이미 보상 완료된 행이면 환불하지 않는다. 선점이 만료되어 다른 인스턴스가 같은 행을 다시 처리해도 환불은 한 번만 반영된다.
+     * 시도마다 트랜잭션을 새로 열어 재시도 대기 중에는 커넥션과 락을 잡고 있지 않으며,
+     * 시도 전에 선점 시각을 갱신해 재시도하는 동안 다른 인스턴스가 행을 가져가지 않게 한다.
+     * 호출자는 반환된 결과를 기다리지 말고 이어서 처리해야 백오프 동안 스레드를 붙잡지 않는다.
+     *
+     * @return 이 호출에서 환불했으면 true, 이미 보상된 행이면 false
+     */
+    public CompletableFuture<Boolean> refundOrder(UUID outboxId, Long userId, Money amount, String description) {
+        return retryExecutor.submit("user-credit.refund", () -> {
+            attemptTransaction.executeWithoutResult(status ->
+                    userCreditOrderOutboxRepository.renewClaim(outboxId, LocalDateTime.now()));
+
+            return attemptTransaction.execute(status -> {
+                if (userCreditOrderOutboxRepository.markCompensated(outboxId, LocalDateTime.now()) == 0) {
+                    return false;
+                }
+                UserCredit credit = getLockedCreditByUserId(userId);
+                credit.add(amount, description);
+                eventPublisher.publishDomainEventsFrom(credit);
+                return true;
+            });
+        });
     }
 
-    @Transactional
-    public void increase(Long userId, UserCreditServiceRequest.Increase request) {
-        RetryUtils.executeWithRetry(() -> {
+    public CompletableFuture<Void> increase(Long userId, UserCreditServiceRequest.Increase request) {
+        return retryExecutor.run("user-credit.increase", () -> attemptTransaction.executeWithoutResult(status -> {
             UserCredit credit = getLockedCreditByUserId(userId);
             credit.add(request.amount());
             eventPublisher.publishDomainEventsFrom(credit);
-            return null;
-        }, "UserCredit Increase");
+        }));
     }
 
     private UserCredit getCreditByUserId(Long userId) {
@@ -80,4 +132,28 @@ public class UserCreditService {
         return userCreditHistoryRepository.findAllByUserCreditId(credit.getId(), pageable)
                 .map(userCreditServiceMapper::toGetHistoryPage);
     }
+
+    // 전체 건수가 필요 없는 화면용. 오프셋 페이지지만 count(*) 는 생략한다.
+    @Transactional(readOnly = true)
+    public Slice<GetHistoryPage> getHistorySlice(Long userId, Pageable pageable) {
+        UserCredit credit = getCreditByUserId(userId);
+
+        return userCreditHistoryRepository.findSliceByUserCreditId(credit.getId(), pageable)
+                .map(userCreditServiceMapper::toGetHistoryPage);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<GetHistoryPage> getHistoryCursorPage(Long userId, UserCreditServiceRequest.HistorySearch request) {
+        UserCredit credit = getCreditByUserId(userId);
+        int size = request.pageSize();
+        CursorUtils.Position cursor = CursorUtils.decodePosition(request.cursor());
+
+        List<UserCreditHistoryItemDto> histories = cursor == null
+                ? userCreditHistoryRepository.findFirstHistoryPage(credit.getId(), PageRequest.ofSize(size + 1))
+                : userCreditHistoryRepository.findHistoryPageAfter(credit.getId(), cursor.at(), cursor.id(), PageRequest.ofSize(size + 1));
+
+        return CursorPage.withCursor(histories, size,
+                history -> CursorUtils.encode(history.getTransactionDateTime(), history.getId()),
+                userCreditServiceMapper::toGetHistoryPage);
+    }
 }
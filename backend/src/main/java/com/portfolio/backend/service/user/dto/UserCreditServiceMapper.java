@@ -2,6 +2,7 @@ package com.portfolio.backend.service.user.dto;
 
 import com.portfolio.backend.domain.user.entity.UserCredit;
 import com.portfolio.backend.domain.user.entity.UserCreditHistory;
+import com.portfolio.backend.domain.user.service.dto.UserCreditHistoryItemDto;
 import com.portfolio.backend.service.user.dto.UserCreditServiceResponse.Get;
 import com.portfolio.backend.service.user.dto.UserCreditServiceResponse.GetHistoryPage;
 import org.springframework.stereotype.Component;
@@ -25,4 +26,13 @@ public class UserCreditServiceMapper {
                 userCreditHistory.getTransactionDateTime()
         );
     }
+
+    public GetHistoryPage toGetHistoryPage(UserCreditHistoryItemDto item) {
+        return new GetHistoryPage(
+                item.getId(),
+                item.getTransactionType(),
+                item.getAmount(),
+                item.getTransactionDateTime()
+        );
+    }
 }
@@ -1,7 +1,9 @@
 package com.portfolio.backend.service.user.dto;
 
 import com.portfolio.backend.domain.common.value.Money;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 
 public class UserCreditServiceRequest {
 
@@ -10,4 +12,18 @@ public class UserCreditServiceRequest {
             Money amount
     ) {
     }
+
+    public record HistorySearch(
+            String cursor,
+
+            @Positive(message = "페이지 크기는 양수여야 합니다.")
+            @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.")
+            Integer size
+    ) {
+        public static final int DEFAULT_SIZE = 20;
+
+        public int pageSize() {
+            return size == null ? DEFAULT_SIZE : size;
+        }
+    }
 }
@@ -14,6 +14,8 @@ import com.portfolio.backend.domain.user.repository.UserCreditOrderOutboxReposit
 import com.portfolio.backend.domain.common.outbox.OutboxStatus;
 import com.portfolio.backend.service.order.outbox.event.UserCreditPaymentResponseEvent;
 import com.portfolio.backend.service.user.UserCreditService;
+import com.portfolio.backend.service.common.outbox.OutboxSavedEvent;
+import com.portfolio.backend.service.common.outbox.OutboxType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
@@ -21,6 +23,8 @@ import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @Component
@@ -56,6 +60,7 @@ public class UserCreditOrderOutboxManager {
             userCreditOrderOutbox.setOutboxStatus(OutboxStatus.STARTED);
             userCreditOrderOutbox.setProcessedAt(LocalDateTime.now());
             userCreditOrderOutboxRepository.save(userCreditOrderOutbox);
+            eventPublisher.publishEvent(new OutboxSavedEvent(OutboxType.USER_CREDIT_ORDER));
         } catch (OptimisticLockingFailureException e) {
             // No-Op
         } catch (ResourceNotFoundException e) {
@@ -75,33 +80,47 @@ public class UserCreditOrderOutboxManager {
                 userCreditOrderOutbox.getPaymentStatus()));
     }
 
-    public void userCreditOrderOutboxCompensation(UserCreditOrderOutbox userCreditOrderOutbox) {
+    public CompletableFuture<Void> userCreditOrderOutboxCompensation(UserCreditOrderOutbox userCreditOrderOutbox) {
         log.info("UserCreditOrderOutbox compensation received order id : {}", userCreditOrderOutbox.getOrderId());
 
-        try {
-            OrderPaymentEventPayload payload = getPayload(userCreditOrderOutbox.getPayload(), OrderPaymentEventPayload.class);
+        OrderPaymentEventPayload payload = getPayload(userCreditOrderOutbox.getPayload(), OrderPaymentEventPayload.class);
 
-            userCreditService.refund(payload.getUserId(), new Money(payload.getPrice()), "주문 실패 결제 환불");
-            log.info("UserCreditOrderOutbox refund order id : {}", userCreditOrderOutbox.getOrderId());
+        // 환불이 락 충돌로 재시도되는 동안 레인 스레드를 붙잡지 않도록 완료 시점에 이어서 처리한다.
+        // 환불과 보상 완료 표시는 한 트랜잭션이므로, 실패하면 둘 다 남지 않고 선점이 만료된 뒤 다시 처리된다.
+        return userCreditService.refundOrder(userCreditOrderOutbox.getId(), payload.getUserId(),
+                        new Money(payload.getPrice()), "주문 실패 결제 환불")
+                .handle((refunded, failure) -> {
+                    refunded(userCreditOrderOutbox, refunded, failure);
+                    return null;
+                });
+    }
 
-            userCreditOrderOutbox.setPaymentStatus(PaymentStatus.COMPENSATED);
-            userCreditOrderOutbox.setOutboxStatus(OutboxStatus.COMPLETED);
-            userCreditOrderOutbox.setProcessedAt(LocalDateTime.now());
-            userCreditOrderOutboxRepository.save(userCreditOrderOutbox);
+    private void refunded(UserCreditOrderOutbox userCreditOrderOutbox, Boolean refunded, Throwable failure) {
+        if (failure != null) {
+            log.error("Failed to compensate user credit order outbox id : {}", userCreditOrderOutbox.getId(), unwrap(failure));
+            return;
+        }
+        if (!refunded) {
+            // 선점이 만료된 사이 다른 인스턴스가 먼저 보상했고, 응답도 그쪽에서 보냈다.
+            log.info("UserCreditOrderOutbox already compensated id : {}", userCreditOrderOutbox.getId());
+            return;
+        }
+        log.info("UserCreditOrderOutbox refund order id : {}", userCreditOrderOutbox.getOrderId());
 
+        try {
             eventPublisher.publishEvent(new UserCreditPaymentResponseEvent(
                     userCreditOrderOutbox.getSagaId(),
-                    userCreditOrderOutbox.getPaymentStatus()));
-
-        } catch (OptimisticLockingFailureException e) {
-            // No-Op
-        } catch (ResourceNotFoundException e) {
-            log.error(e.getMessage(), e);
-        } catch (DataAccessException e) {
-            log.error("DB Exception", e.getMessage(), e);
+                    PaymentStatus.COMPENSATED));
+        } catch (RuntimeException e) {
+            log.error("Failed to publish compensation response saga id : {}", userCreditOrderOutbox.getSagaId(), e);
         }
     }
 
+    private RuntimeException unwrap(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        return cause instanceof RuntimeException runtimeException ? runtimeException : new CompletionException(cause);
+    }
+
     private <T> T getPayload(String payload, Class<T> outputType) {
         try {
             return objectMapper.readValue(payload, outputType);
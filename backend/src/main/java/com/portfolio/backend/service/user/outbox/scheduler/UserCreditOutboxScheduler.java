@@ -1,19 +1,20 @@
 package com.portfolio.backend.service.user.outbox.scheduler;
 
 import com.portfolio.backend.common.event.PaymentStatus;
-import com.portfolio.backend.domain.user.outbox.UserCreditOrderOutbox;
 import com.portfolio.backend.domain.user.repository.UserCreditOrderOutboxRepository;
 import com.portfolio.backend.domain.common.outbox.OutboxStatus;
+import com.portfolio.backend.service.common.outbox.OutboxDispatcher;
+import com.portfolio.backend.service.common.outbox.OutboxPhase;
+import com.portfolio.backend.service.common.outbox.OutboxRelay;
+import com.portfolio.backend.service.common.outbox.OutboxType;
 import com.portfolio.backend.service.user.outbox.UserCreditOrderOutboxManager;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.Optional;
-
 @Slf4j
 @Component
 @EnableScheduling
@@ -22,36 +23,45 @@ public class UserCreditOutboxScheduler {
 
     private final UserCreditOrderOutboxRepository userCreditOrderOutboxRepository;
     private final UserCreditOrderOutboxManager userCreditOrderOutboxManager;
+    private final OutboxRelay outboxRelay;
+    private final OutboxDispatcher outboxDispatcher;
+
+    @PostConstruct
+    public void register() {
+        outboxDispatcher.register(OutboxType.USER_CREDIT_ORDER, OutboxPhase.PROCESS, this::processUserCreditOrderOutbox);
+        outboxDispatcher.register(OutboxType.USER_CREDIT_ORDER, OutboxPhase.FAILURE, this::processFailureUserCreditOrderOutbox);
+        outboxDispatcher.register(OutboxType.USER_CREDIT_ORDER, OutboxPhase.COMPENSATION, this::processCompensatingUserCreditOrderOutbox);
+    }
 
-    @Scheduled(fixedRate = 5000)
+    // 커밋 직후 OutboxDispatcher 가 먼저 처리하고, 스케줄러는 놓친 행을 위해 각 레인을 깨우기만 한다.
+    @Scheduled(fixedDelayString = "${outbox.relay.sweep-interval}")
     public void processOrderOutbox() {
+        outboxDispatcher.signal(OutboxType.USER_CREDIT_ORDER);
+    }
 
-        Optional<List<UserCreditOrderOutbox>> response = userCreditOrderOutboxRepository.findAllByOutboxStatusIsNull();
-        Optional<List<UserCreditOrderOutbox>> failureResponse = userCreditOrderOutboxRepository
-                .findAllByOutboxStatusAndPaymentStatus(OutboxStatus.STARTED, PaymentStatus.FAILED);
-
-        if (response.isPresent() && !response.get().isEmpty()) {
-            List<UserCreditOrderOutbox> userCreditOrderOutboxes = response.get();
-            log.info("Processing user credit outbox size: {}", userCreditOrderOutboxes.size());
-            userCreditOrderOutboxes.forEach(userCreditOrderOutboxManager::userCreditOrderOutboxProcess);
-        }
-
-        if (failureResponse.isPresent() && !failureResponse.get().isEmpty()) {
-            List<UserCreditOrderOutbox> userCreditOrderOutboxes = failureResponse.get();
-            log.info("Failure user credit outbox size: {}", userCreditOrderOutboxes.size());
-            userCreditOrderOutboxes.forEach(userCreditOrderOutboxManager::userCreditOrderOutboxFailure);
-        }
+    private void processUserCreditOrderOutbox() {
+        outboxRelay.relay("user credit",
+                userCreditOrderOutboxRepository::findClaimable,
+                userCreditOrderOutboxRepository::markClaimed,
+                userCreditOrderOutboxRepository::extendClaim,
+                userCreditOrderOutboxManager::userCreditOrderOutboxProcess);
     }
 
-    @Scheduled(fixedRate = 5000)
-    public void processCompensating() {
-        Optional<List<UserCreditOrderOutbox>> compensatingOutboxesResponse = userCreditOrderOutboxRepository
-                .findAllByOutboxStatusAndPaymentStatus(OutboxStatus.STARTED, PaymentStatus.COMPENSATING);
+    private void processFailureUserCreditOrderOutbox() {
+        outboxRelay.relay("failure user credit",
+                (claimExpiredAt, pageable) -> userCreditOrderOutboxRepository.findClaimableByOutboxStatusAndPaymentStatus(
+                        OutboxStatus.STARTED, PaymentStatus.FAILED, claimExpiredAt, pageable),
+                userCreditOrderOutboxRepository::markClaimed,
+                userCreditOrderOutboxRepository::extendClaim,
+                userCreditOrderOutboxManager::userCreditOrderOutboxFailure);
+    }
 
-        if (compensatingOutboxesResponse.isPresent() && !compensatingOutboxesResponse.get().isEmpty()) {
-            List<UserCreditOrderOutbox> userCreditOrderOutboxes = compensatingOutboxesResponse.get();
-            log.info("Compensating user credit outbox size: {}", userCreditOrderOutboxes.size());
-            userCreditOrderOutboxes.forEach(userCreditOrderOutboxManager::userCreditOrderOutboxCompensation);
-        }
+    private void processCompensatingUserCreditOrderOutbox() {
+        outboxRelay.relay("compensating user credit",
+                (claimExpiredAt, pageable) -> userCreditOrderOutboxRepository.findClaimableByOutboxStatusAndPaymentStatus(
+                        OutboxStatus.STARTED, PaymentStatus.COMPENSATING, claimExpiredAt, pageable),
+                userCreditOrderOutboxRepository::markClaimed,
+                userCreditOrderOutboxRepository::extendClaim,
+                userCreditOrderOutboxManager::userCreditOrderOutboxCompensation);
     }
 }
@@ -0,0 +1,2 @@
+-- 카테고리 없는 목록은 기본 키 인덱스를 역순으로 훑으면 되므로 같은 키의 부분 인덱스는 쓰기 비용만 더한다.
+DROP INDEX IF EXISTS idx_products_id_active;
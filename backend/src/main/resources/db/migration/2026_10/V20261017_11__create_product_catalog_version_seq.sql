@@ -0,0 +1,2 @@
+-- 상품 목록 조건부 GET 검증자. 목록을 바꾸는 쓰기마다 증가시킨다.
+CREATE SEQUENCE product_catalog_version_seq;
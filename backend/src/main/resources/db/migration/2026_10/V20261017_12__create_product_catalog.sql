@@ -0,0 +1,13 @@
+-- 상품 목록 버전을 시퀀스 대신 한 행 테이블에 둔다. 시퀀스는 JPA 가 스키마를 만드는 H2 프로필에서 생기지 않는다.
+CREATE TABLE product_catalog
+(
+    id      BIGINT PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+-- 이미 나간 ETag 와 겹치지 않도록 시퀀스 값 다음부터 이어간다.
+INSERT INTO product_catalog (id, version)
+SELECT 1, last_value + 1
+FROM product_catalog_version_seq;
+
+DROP SEQUENCE product_catalog_version_seq;
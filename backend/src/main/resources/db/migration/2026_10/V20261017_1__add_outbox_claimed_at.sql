@@ -0,0 +1,11 @@
+ALTER TABLE payment_outbox
+    ADD COLUMN claimed_at TIMESTAMP(6);
+
+ALTER TABLE product_stock_outbox
+    ADD COLUMN claimed_at TIMESTAMP(6);
+
+ALTER TABLE product_stock_reduction_outbox
+    ADD COLUMN claimed_at TIMESTAMP(6);
+
+ALTER TABLE user_credit_order_outbox
+    ADD COLUMN claimed_at TIMESTAMP(6);
@@ -0,0 +1,39 @@
+-- 릴레이 폴링: 처리 대기(outbox_status IS NULL) 행만 담는 부분 인덱스
+CREATE INDEX idx_payment_outbox_pending
+    ON payment_outbox (saga_type, created_at)
+    WHERE outbox_status IS NULL;
+
+CREATE INDEX idx_product_stock_outbox_pending
+    ON product_stock_outbox (saga_type, created_at)
+    WHERE outbox_status IS NULL;
+
+CREATE INDEX idx_product_stock_reduction_outbox_pending
+    ON product_stock_reduction_outbox (created_at)
+    WHERE outbox_status IS NULL;
+
+CREATE INDEX idx_user_credit_order_outbox_pending
+    ON user_credit_order_outbox (created_at)
+    WHERE outbox_status IS NULL;
+
+-- 실패/보상 릴레이: 상태 값이 바인딩 파라미터로 전달되므로 상태 컬럼을 선두로 둔다.
+CREATE INDEX idx_payment_outbox_saga_status
+    ON payment_outbox (saga_status, outbox_status, created_at);
+
+CREATE INDEX idx_product_stock_reduction_outbox_status
+    ON product_stock_reduction_outbox (outbox_status, product_stock_status, created_at);
+
+CREATE INDEX idx_user_credit_order_outbox_status
+    ON user_credit_order_outbox (outbox_status, payment_status, created_at);
+
+-- 리스너의 (saga_id, outbox_status) 조회
+CREATE INDEX idx_payment_outbox_saga_id
+    ON payment_outbox (saga_id, outbox_status);
+
+CREATE INDEX idx_product_stock_outbox_saga_id
+    ON product_stock_outbox (saga_id, outbox_status);
+
+CREATE INDEX idx_product_stock_reduction_outbox_saga_id
+    ON product_stock_reduction_outbox (saga_id, outbox_status);
+
+CREATE INDEX idx_user_credit_order_outbox_saga_id
+    ON user_credit_order_outbox (saga_id, outbox_status);
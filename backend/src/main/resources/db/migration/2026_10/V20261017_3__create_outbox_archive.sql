@@ -0,0 +1,40 @@
+-- 처리가 끝난 아웃박스 행을 옮겨 두는 보관 테이블
+-- 원본 테이블에 컬럼을 추가할 때는 보관 테이블에도 같은 순서로 추가해야 한다.
+CREATE TABLE payment_outbox_archive
+(
+    LIKE payment_outbox INCLUDING DEFAULTS,
+    archived_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE product_stock_outbox_archive
+(
+    LIKE product_stock_outbox INCLUDING DEFAULTS,
+    archived_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE product_stock_reduction_outbox_archive
+(
+    LIKE product_stock_reduction_outbox INCLUDING DEFAULTS,
+    archived_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE user_credit_order_outbox_archive
+(
+    LIKE user_credit_order_outbox INCLUDING DEFAULTS,
+    archived_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_payment_outbox_archive_saga_id ON payment_outbox_archive (saga_id);
+CREATE INDEX idx_product_stock_outbox_archive_saga_id ON product_stock_outbox_archive (saga_id);
+CREATE INDEX idx_product_stock_reduction_outbox_archive_saga_id ON product_stock_reduction_outbox_archive (saga_id);
+CREATE INDEX idx_user_credit_order_outbox_archive_saga_id ON user_credit_order_outbox_archive (saga_id);
+
+-- 보관 대상(오래된 행) 탐색용
+CREATE INDEX idx_payment_outbox_created_at ON payment_outbox (created_at);
+CREATE INDEX idx_product_stock_outbox_created_at ON product_stock_outbox (created_at);
+CREATE INDEX idx_product_stock_reduction_outbox_created_at ON product_stock_reduction_outbox (created_at);
+CREATE INDEX idx_user_credit_order_outbox_created_at ON user_credit_order_outbox (created_at);
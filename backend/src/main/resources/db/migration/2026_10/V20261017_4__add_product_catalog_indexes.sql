@@ -0,0 +1,4 @@
+-- 상품 목록 키셋 페이지네이션용 (id 역순 조회)
+CREATE INDEX idx_products_id_active ON products (id DESC) WHERE status <> 'DELETED';
+CREATE INDEX idx_products_category_id ON products (category, id DESC) WHERE status <> 'DELETED';
+CREATE INDEX idx_products_status_id ON products (status, id DESC);
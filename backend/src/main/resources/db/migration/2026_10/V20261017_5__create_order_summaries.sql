@@ -0,0 +1,41 @@
+-- 주문 목록 조회용 읽기 모델. 배송 정보와 주문 상품은 detail(JSONB)에 함께 저장한다.
+CREATE TABLE order_summaries
+(
+    order_id     UUID PRIMARY KEY REFERENCES orders (id) ON DELETE CASCADE,
+    user_id      BIGINT         NOT NULL,
+    order_status VARCHAR(30)    NOT NULL,
+    total_price  NUMERIC(38, 2) NOT NULL,
+    detail       JSONB          NOT NULL,
+    created_at   TIMESTAMP(6)   NOT NULL
+);
+
+-- 주문 ID 는 ULID 기반이라 id 역순이 최신순이다.
+CREATE INDEX idx_order_summaries_user_id_order_id ON order_summaries (user_id, order_id DESC);
+
+-- 기존 주문 채우기 (OrderSummaryDetail 과 같은 모양)
+INSERT INTO order_summaries (order_id, user_id, order_status, total_price, detail, created_at)
+SELECT o.id,
+       o.user_id,
+       o.order_status,
+       o.total_price,
+       jsonb_build_object(
+               'deliveryInfo', jsonb_build_object(
+                       'name', o.name,
+                       'phone', o.phone,
+                       'deliveryRequest', o.delivery_request,
+                       'address', jsonb_build_object(
+                               'address', o.address,
+                               'detailAddress', o.detail_address,
+                               'postCode', o.post_code)),
+               'orderItems', COALESCE((SELECT jsonb_agg(jsonb_build_object(
+                                                        'product', jsonb_build_object(
+                                                                'id', i.product_id,
+                                                                'name', i.name,
+                                                                'originalPrice', i.original_price,
+                                                                'price', i.price,
+                                                                'thumbnailImageUrl', i.thumbnail_image_url),
+                                                        'quantity', i.quantity) ORDER BY i.item_seq)
+                                       FROM order_items i
+                                       WHERE i.order_id = o.id), '[]'::jsonb)),
+       o.created_at
+FROM orders o;
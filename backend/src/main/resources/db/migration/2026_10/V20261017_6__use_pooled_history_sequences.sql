@@ -0,0 +1,4 @@
+-- 이력 테이블 ID 를 Hibernate pooled 옵티마이저(allocationSize = 50)로 할당한다.
+-- 증가폭이 엔티티의 allocationSize 와 다르면 애플리케이션이 기동하지 않는다.
+ALTER SEQUENCE stock_histories_id_seq INCREMENT BY 50;
+ALTER SEQUENCE user_credit_histories_id_seq INCREMENT BY 50;
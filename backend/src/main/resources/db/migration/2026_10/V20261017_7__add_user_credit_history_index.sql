@@ -0,0 +1,4 @@
+-- 크레딧 내역 키셋 페이지네이션용. 응답 컬럼을 INCLUDE 해 테이블을 읽지 않고 인덱스만으로 응답한다.
+CREATE INDEX idx_user_credit_histories_credit_time_id
+    ON user_credit_histories (user_credit_id, transaction_date_time DESC, id DESC)
+    INCLUDE (transaction_type, amount);
@@ -0,0 +1,17 @@
+-- 인기 상품 재고를 여러 행으로 나눠 판매 시 행 잠금 경합을 분산한다. bucket_count 가 0 이면 기존처럼 product_stocks 한 행을 쓴다.
+ALTER TABLE product_stocks ADD COLUMN bucket_count INTEGER NOT NULL DEFAULT 0;
+
+CREATE TABLE product_stock_buckets
+(
+    id               BIGSERIAL PRIMARY KEY,
+    product_stock_id BIGINT       NOT NULL REFERENCES product_stocks (id) ON DELETE CASCADE,
+    product_id       BIGINT       NOT NULL,
+    bucket_no        INTEGER      NOT NULL,
+    quantity         INTEGER      NOT NULL CHECK (quantity >= 0),
+    version          INTEGER      NOT NULL,
+    created_at       TIMESTAMP(6) NOT NULL,
+    updated_at       TIMESTAMP(6),
+    CONSTRAINT uk_product_stock_buckets_product_bucket UNIQUE (product_id, bucket_no)
+);
+
+CREATE INDEX idx_product_stock_buckets_product_stock_id ON product_stock_buckets (product_stock_id);
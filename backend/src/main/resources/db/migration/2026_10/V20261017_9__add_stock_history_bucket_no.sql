@@ -0,0 +1,2 @@
+-- 조각 하나만 잠그고 바꾼 재고 이력은 그 조각의 수량을 남긴다. NULL 이면 상품 전체 수량이다.
+ALTER TABLE stock_histories ADD COLUMN bucket_no INTEGER;
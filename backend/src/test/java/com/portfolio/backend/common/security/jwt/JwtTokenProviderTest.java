@@ -0,0 +1,81 @@
+package com.portfolio.backend.common.security.jwt;
+
+import com.portfolio.backend.common.security.UserDetailsImpl;
+import com.portfolio.backend.domain.user.entity.Oauth2ProviderType;
+import com.portfolio.backend.domain.user.entity.RoleType;
+import com.portfolio.backend.domain.user.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtTokenProvider 테스트")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "12345678901234567890123456789012";
+
+    @ParameterizedTest(name = "캐시 사용: {0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("유효한 토큰이면 토큰의 사용자 정보로 인증 객체를 만든다")
+    void shouldResolveAuthenticationFromValidToken(boolean cacheEnabled) {
+        // Given
+        JwtTokenProvider provider = provider(86400000, cacheEnabled);
+        String token = provider.createToken(user(1L));
+
+        // When
+        Authentication first = provider.resolveAuthentication(token);
+        Authentication second = provider.resolveAuthentication(token);
+
+        // Then
+        for (Authentication authentication : new Authentication[]{first, second}) {
+            UserDetailsImpl principal = (UserDetailsImpl) authentication.getPrincipal();
+            assertThat(principal.getId()).isEqualTo(1L);
+            assertThat(principal.getUsername()).isEqualTo("user1@email.com");
+            assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        }
+    }
+
+    @ParameterizedTest(name = "캐시 사용: {0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("서명이 변조된 토큰은 인증하지 않는다")
+    void shouldRejectTamperedToken(boolean cacheEnabled) {
+        // Given
+        JwtTokenProvider provider = provider(86400000, cacheEnabled);
+        String token = provider.createToken(user(1L));
+        provider.resolveAuthentication(token);
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // When & Then
+        assertThat(provider.resolveAuthentication(tampered)).isNull();
+        assertThat(provider.resolveAuthentication("not-a-jwt")).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐시를 사용해도 인증하지 않는다")
+    void shouldRejectExpiredToken() {
+        // Given
+        JwtTokenProvider provider = provider(-1000, true);
+        String token = provider.createToken(user(1L));
+
+        // When & Then
+        assertThat(provider.resolveAuthentication(token)).isNull();
+        assertThat(provider.resolveAuthentication(token)).isNull();
+    }
+
+    private JwtTokenProvider provider(long expiration, boolean cacheEnabled) {
+        JwtCacheProperties properties = new JwtCacheProperties();
+        properties.setEnabled(cacheEnabled);
+        return new JwtTokenProvider(SECRET, expiration, properties);
+    }
+
+    private User user(Long id) {
+        User user = new User("user" + id + "@email.com", "tester", Oauth2ProviderType.GITHUB, "user" + id, null, RoleType.USER);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
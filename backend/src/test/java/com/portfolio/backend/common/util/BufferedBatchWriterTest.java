@@ -0,0 +1,214 @@
+package com.portfolio.backend.common.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BufferedBatchWriter 테스트")
+class BufferedBatchWriterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SimpleAsyncTaskExecutor executor;
+    private BufferedWriterProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new SimpleAsyncTaskExecutor("test-writer-");
+        properties = new BufferedWriterProperties();
+        properties.setCapacity(100);
+        properties.setBatchSize(10);
+        properties.setFlushInterval(Duration.ofMillis(10));
+        properties.setOfferTimeout(Duration.ofMillis(10));
+    }
+
+    @Test
+    @DisplayName("항목을 묶음으로, 들어온 순서대로 기록해야 한다")
+    void shouldWriteInBatchesInOrder() {
+        // Given
+        List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+        BufferedBatchWriter<Integer> writer = new BufferedBatchWriter<>("test", properties,
+                items -> batches.add(List.copyOf(items)), meterRegistry, executor);
+
+        // When
+        IntStream.range(0, 55).forEach(writer::append);
+        writer.shutdown();
+
+        // Then
+        assertThat(batches).allSatisfy(batch -> assertThat(batch.size()).isLessThanOrEqualTo(10));
+        assertThat(batches.stream().flatMap(List::stream).toList())
+                .containsExactlyElementsOf(IntStream.range(0, 55).boxed().toList());
+        assertThat(meterRegistry.counter("buffered.writer.written", "name", "test").count()).isEqualTo(55);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출 스레드에서 바로 기록해야 한다")
+    void shouldWriteOnCallerWhenQueueIsFull() throws InterruptedException {
+        // Given
+        properties.setCapacity(1);
+        properties.setBatchSize(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> writtenBy = Collections.synchronizedList(new ArrayList<>());
+        BufferedBatchWriter<Integer> writer = new BufferedBatchWriter<>("test", properties, items -> {
+            writtenBy.add(Thread.currentThread().getName());
+            if (items.get(0) == 0) {
+                blocked.countDown();
+                await(release);
+            }
+        }, meterRegistry, executor);
+
+        // When
+        writer.append(0);
+        assertThat(blocked.await(1, TimeUnit.SECONDS)).isTrue();
+        writer.append(1);
+        writer.append(2);
+        release.countDown();
+        writer.shutdown();
+
+        // Then
+        assertThat(writtenBy).contains(Thread.currentThread().getName());
+        assertThat(writtenBy).hasSize(3);
+        assertThat(meterRegistry.counter("buffered.writer.overflow", "name", "test").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("워커가 실패한 항목을 다시 시도하는 동안 큐가 가득 차도 호출 스레드를 오래 붙잡지 않아야 한다")
+    void shouldNotBlockCallerWhileWorkerRetries() throws InterruptedException {
+        // Given
+        properties.setCapacity(1);
+        properties.setBatchSize(1);
+        properties.setFailurePolicy(BufferedWriterProperties.FailurePolicy.RETRY);
+        properties.setRetryBackoff(Duration.ofMillis(200));
+        CountDownLatch failing = new CountDownLatch(1);
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+        BufferedBatchWriter<Integer> writer = new BufferedBatchWriter<>("test", properties, items -> {
+            if (items.contains(0)) {
+                failing.countDown();
+                throw new IllegalStateException("poison row");
+            }
+            written.addAll(items);
+        }, meterRegistry, executor);
+
+        // When
+        writer.append(0);
+        assertThat(failing.await(1, TimeUnit.SECONDS)).isTrue();
+        writer.append(1);
+        long startedAt = System.nanoTime();
+        writer.append(2);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // Then
+        assertThat(elapsedMillis).isLessThan(200);
+        assertThat(written).contains(2);
+        assertThat(meterRegistry.counter("buffered.writer.overflow", "name", "test").count()).isEqualTo(1);
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("RETRY 정책이면 maxRetries 번 다시 시도한 뒤 포기하고 다음 항목을 기록해야 한다")
+    void shouldGiveUpAfterMaxRetries() {
+        // Given
+        properties.setFailurePolicy(BufferedWriterProperties.FailurePolicy.RETRY);
+        properties.setRetryBackoff(Duration.ofMillis(10));
+        properties.setMaxRetries(2);
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+        BufferedBatchWriter<Integer> writer = new BufferedBatchWriter<>("test", properties, items -> {
+            if (items.contains(3)) {
+                throw new IllegalStateException("poison row");
+            }
+            written.addAll(items);
+        }, meterRegistry, executor);
+
+        // When
+        IntStream.range(0, 5).forEach(writer::append);
+        writer.shutdown();
+
+        // Then
+        assertThat(written).containsExactly(0, 1, 2, 4);
+        assertThat(meterRegistry.counter("buffered.writer.retried", "name", "test").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("buffered.writer.failed", "name", "test").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DROP 정책이면 묶음 기록이 실패했을 때 하나씩 다시 기록해 실패한 항목만 버려야 한다")
+    void shouldRetryItemsOneByOneWhenBatchFails() {
+        // Given
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+        BufferedBatchWriter<Integer> writer = new BufferedBatchWriter<>("test", properties, items -> {
+            if (items.contains(3)) {
+                throw new IllegalStateException("bad row");
+            }
+            written.addAll(items);
+        }, meterRegistry, executor);
+
+        // When
+        IntStream.range(0, 5).forEach(writer::append);
+        writer.shutdown();
+
+        // Then
+        assertThat(written).containsExactly(0, 1, 2, 4);
+        assertThat(meterRegistry.counter("buffered.writer.failed", "name", "test").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("RETRY 정책이면 일시적으로 실패한 항목을 다시 시도해 순서대로 기록해야 한다")
+    void shouldRetryFailedItemUntilWrittenInOrder() {
+        // Given
+        properties.setFailurePolicy(BufferedWriterProperties.FailurePolicy.RETRY);
+        properties.setRetryBackoff(Duration.ofMillis(10));
+        AtomicInteger failuresLeft = new AtomicInteger(3);
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+        BufferedBatchWriter<Integer> writer = new BufferedBatchWriter<>("test", properties, items -> {
+            if (items.contains(3) && failuresLeft.getAndDecrement() > 0) {
+                throw new IllegalStateException("db unavailable");
+            }
+            written.addAll(items);
+        }, meterRegistry, executor);
+
+        // When
+        IntStream.range(0, 5).forEach(writer::append);
+        writer.shutdown();
+
+        // Then
+        assertThat(written).containsExactly(0, 1, 2, 3, 4);
+        assertThat(meterRegistry.counter("buffered.writer.retried", "name", "test").count()).isPositive();
+        assertThat(meterRegistry.counter("buffered.writer.failed", "name", "test").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료된 뒤에 들어온 항목은 호출 스레드에서 바로 기록해야 한다")
+    void shouldWriteDirectlyAfterShutdown() {
+        // Given
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+        BufferedBatchWriter<Integer> writer = new BufferedBatchWriter<>("test", properties, written::addAll, meterRegistry, executor);
+        writer.shutdown();
+
+        // When
+        writer.append(7);
+
+        // Then
+        assertThat(written).containsExactly(7);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
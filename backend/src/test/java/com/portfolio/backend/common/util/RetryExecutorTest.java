@@ -0,0 +1,128 @@
+package com.portfolio.backend.common.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RetryExecutor 테스트")
+class RetryExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RetryExecutor retryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        RetryProperties properties = new RetryProperties();
+        properties.getDefaults().setMaxAttempts(3);
+        properties.getDefaults().setInitialDelay(Duration.ofMillis(5));
+        properties.getDefaults().setMaxDelay(Duration.ofMillis(20));
+
+        meterRegistry = new SimpleMeterRegistry();
+        retryExecutor = new RetryExecutor(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        retryExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("락 충돌이 나면 다른 스레드에서 재시도해 성공해야 한다")
+    void shouldRetryOnSchedulerThreadUntilSuccess() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        Thread caller = Thread.currentThread();
+
+        // When
+        String result = retryExecutor.submit("test", () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return Thread.currentThread() == caller ? "caller" : "scheduler";
+        }).join();
+
+        // Then
+        assertThat(result).isEqualTo("scheduler");
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter("retry.attempts", "operation", "test").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("retry.exhausted", "operation", "test").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 예산을 모두 쓰면 마지막 예외를 그대로 던져야 한다")
+    void shouldThrowLastExceptionWhenBudgetExhausted() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When & Then
+        assertThatThrownBy(() -> retryExecutor.run("test", () -> {
+            calls.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        }).join()).hasCauseInstanceOf(OptimisticLockingFailureException.class);
+
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter("retry.exhausted", "operation", "test").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("락 충돌이 아닌 예외는 재시도하지 않아야 한다")
+    void shouldNotRetryOtherExceptions() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When & Then
+        assertThatThrownBy(() -> retryExecutor.run("test", () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("boom");
+        }).join()).hasCauseInstanceOf(IllegalStateException.class);
+
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 중 Error 가 나도 결과가 예외로 완료되어야 한다")
+    void shouldCompleteExceptionallyWhenRetryThrowsError() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        CompletableFuture<Void> result = retryExecutor.run("test", () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            throw new AssertionError("boom");
+        });
+
+        // Then
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    @DisplayName("종료되어 재시도를 예약할 수 없으면 마지막 충돌 예외로 완료되어야 한다")
+    void shouldCompleteExceptionallyWhenRetryCannotBeScheduled() {
+        // Given
+        retryExecutor.shutdown();
+
+        // When
+        CompletableFuture<Void> result = retryExecutor.run("test", () -> {
+            throw new OptimisticLockingFailureException("conflict");
+        });
+
+        // Then
+        assertThat(result).isCompletedExceptionally();
+        assertThatThrownBy(result::join)
+                .hasCauseInstanceOf(OptimisticLockingFailureException.class);
+    }
+}
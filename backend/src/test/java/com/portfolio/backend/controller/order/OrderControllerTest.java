@@ -10,6 +10,7 @@ import com.portfolio.backend.domain.product.entity.Product;
 import com.portfolio.backend.domain.product.fixture.ProductTestFixtures;
 import com.portfolio.backend.domain.product.repository.ProductRepository;
 import com.portfolio.backend.domain.user.repository.UserRepository;
+import com.portfolio.backend.service.order.OrderSummaryProjector;
 import com.portfolio.backend.service.order.dto.OrderServiceRequest;
 import com.portfolio.backend.service.order.fixture.OrderServiceRequestTestFixtures;
 import jakarta.transaction.Transactional;
@@ -48,6 +49,9 @@ class OrderControllerTest extends ControllerTest {
     @Autowired
     private ProductCartRepository productCartRepository;
 
+    @Autowired
+    private OrderSummaryProjector orderSummaryProjector;
+
     private Product product;
 
     @BeforeEach
@@ -124,7 +128,8 @@ class OrderControllerTest extends ControllerTest {
         @WithUserDetails
         void shouldReturnOrderPageWhenAuthenticated() throws Exception {
             // Given
-            orderRepository.save(OrderTestFixtures.createDefaultOrder(user, Collections.singletonList(product)));
+            Order order = orderRepository.save(OrderTestFixtures.createDefaultOrder(user, Collections.singletonList(product)));
+            orderSummaryProjector.created(order);
 
             // When & Then
             getPage()
@@ -0,0 +1,214 @@
+package com.portfolio.backend.controller.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.common.security.jwt.JwtTokenProvider;
+import com.portfolio.backend.domain.cart.entity.ProductCart;
+import com.portfolio.backend.domain.cart.repository.ProductCartRepository;
+import com.portfolio.backend.domain.order.entity.OrderStatus;
+import com.portfolio.backend.domain.product.entity.Product;
+import com.portfolio.backend.domain.product.fixture.ProductTestFixtures;
+import com.portfolio.backend.domain.product.repository.ProductRepository;
+import com.portfolio.backend.domain.user.entity.Oauth2ProviderType;
+import com.portfolio.backend.domain.user.entity.RoleType;
+import com.portfolio.backend.domain.user.entity.User;
+import com.portfolio.backend.domain.user.entity.UserCredit;
+import com.portfolio.backend.domain.user.repository.UserCreditRepository;
+import com.portfolio.backend.domain.user.repository.UserRepository;
+import com.portfolio.backend.service.order.fixture.OrderServiceRequestTestFixtures;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모든 주문이 같은 인기 상품을 담고 있어 사가 단계가 같은 재고 행을 두고 경쟁하는 상태에서
+ * 주문 요청부터 재고 차감까지 사가가 모두 끝나는 시간을 측정한다. POST /api/orders 는 사가를 시작만 하므로
+ * 요청 지연 시간과 별도로, 모든 주문이 종료 상태가 될 때까지를 측정 구간에 넣는다.
+ * 스레드 모델만 다른 하위 클래스를 ./gradlew benchmark 로 실행해 결과를 비교한다.
+ * 만든 사용자, 주문, 아웃박스 행은 끝나고 지운다.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "server.tomcat.threads.max=50",
+                "spring.datasource.hikari.maximum-pool-size=40",
+                // 재고 행 경합 자체를 측정하므로 입장 제어로 요청을 거절하지 않는다.
+                "order.admission.enabled=false"
+        })
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+abstract class OrderLoadBenchmark {
+
+    private static final int ORDERS = 400;
+    private static final int CLIENT_CONCURRENCY = 200;
+    private static final long SAGA_TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    @MockBean
+    private S3Client s3Client;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ProductCartRepository productCartRepository;
+    @Autowired
+    private UserCreditRepository userCreditRepository;
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final List<String> tokens = new ArrayList<>();
+    private final List<Long> userIds = new ArrayList<>();
+    private Product hotProduct;
+    private String body;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        hotProduct = productRepository.save(ProductTestFixtures.createDefaultProduct(ORDERS * 10));
+        body = objectMapper.writeValueAsString(OrderServiceRequestTestFixtures.createOrderCreateRequest(hotProduct.getPrice()));
+
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i < ORDERS; i++) {
+            User user = userRepository.save(new User("bench-" + run + "-" + i + "@email.com", "bench",
+                    Oauth2ProviderType.GITHUB, "bench-" + run + "-" + i, null, RoleType.USER));
+            ProductCart cart = new ProductCart(user);
+            cart.addItem(hotProduct, 1);
+            productCartRepository.save(cart);
+            // 결제 단계를 통과해야 재고 차감까지 진행된다.
+            UserCredit credit = new UserCredit(user);
+            credit.add(hotProduct.getPrice());
+            userCreditRepository.save(credit);
+            userIds.add(user.getId());
+            tokens.add(jwtTokenProvider.createToken(user));
+        }
+    }
+
+    @AfterAll
+    void tearDown() {
+        Map<String, Object> params = Map.of("userIds", userIds, "productId", hotProduct.getId());
+        String orderIds = "select id from orders where user_id in (:userIds)";
+        for (String outbox : List.of("payment_outbox", "product_stock_outbox", "product_stock_reduction_outbox", "user_credit_order_outbox")) {
+            jdbcTemplate.update("delete from " + outbox + " where order_id in (" + orderIds + ")", params);
+            jdbcTemplate.update("delete from " + outbox + "_archive where order_id in (" + orderIds + ")", params);
+        }
+        jdbcTemplate.update("delete from order_items where order_id in (" + orderIds + ")", params);
+        jdbcTemplate.update("delete from orders where user_id in (:userIds)", params);
+        jdbcTemplate.update("delete from user_credit_histories where user_credit_id in (select id from user_credits where user_id in (:userIds))", params);
+        jdbcTemplate.update("delete from user_credits where user_id in (:userIds)", params);
+        jdbcTemplate.update("delete from product_cart_items where product_cart_id in (select id from product_carts where user_id in (:userIds))", params);
+        jdbcTemplate.update("delete from product_carts where user_id in (:userIds)", params);
+        jdbcTemplate.update("delete from stock_histories where product_id = :productId", params);
+        productRepository.deleteById(hotProduct.getId());
+        userRepository.deleteAllById(userIds);
+    }
+
+    protected abstract String threadModel();
+
+    @Test
+    @DisplayName("인기 상품 주문이 몰려도 모든 주문이 재고 차감까지 끝나야 한다")
+    void shouldMeasureOrderThroughputUnderLockContention() throws Exception {
+        // Given
+        HttpClient client = HttpClient.newHttpClient();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENT_CONCURRENCY);
+        List<Future<long[]>> results = new ArrayList<>(ORDERS);
+
+        // When
+        long startedAt = System.nanoTime();
+        for (String token : tokens) {
+            results.add(clients.submit(() -> {
+                long requestedAt = System.nanoTime();
+                HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/orders"))
+                        .header("Authorization", "Bearer " + token)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(), HttpResponse.BodyHandlers.discarding());
+                return new long[]{response.statusCode(), System.nanoTime() - requestedAt};
+            }));
+        }
+
+        List<Long> latencies = new ArrayList<>(ORDERS);
+        int succeeded = 0;
+        for (Future<long[]> result : results) {
+            long[] value = result.get(2, TimeUnit.MINUTES);
+            if (value[0] == 200) {
+                succeeded++;
+            }
+            latencies.add(value[1]);
+        }
+        clients.shutdown();
+        int finished = awaitSagas();
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+        // Then
+        Collections.sort(latencies);
+        log.info("[{}] {} orders through stock reduction in {} ms, {} orders/s, request p50 {} ms, p99 {} ms",
+                threadModel(), ORDERS, elapsedMillis, ORDERS * 1000L / elapsedMillis,
+                TimeUnit.NANOSECONDS.toMillis(latencies.get(latencies.size() / 2)),
+                TimeUnit.NANOSECONDS.toMillis(latencies.get(latencies.size() * 99 / 100)));
+
+        assertThat(succeeded).isEqualTo(ORDERS);
+        assertThat(finished).isEqualTo(ORDERS);
+        assertThat(countOrders(OrderStatus.ORDERED)).isEqualTo(ORDERS);
+        assertThat(productStockRemaining()).isEqualTo(ORDERS * 9);
+    }
+
+    /**
+     * 모든 주문이 재고 차감 성공(ORDERED) 또는 실패(FAILED)로 끝날 때까지 기다리고, 끝난 주문 수를 반환한다.
+     */
+    private int awaitSagas() throws InterruptedException {
+        long deadline = System.nanoTime() + SAGA_TIMEOUT_NANOS;
+        int finished = 0;
+        while (System.nanoTime() - deadline < 0) {
+            finished = countOrders(OrderStatus.ORDERED) + countOrders(OrderStatus.FAILED);
+            if (finished >= ORDERS) {
+                break;
+            }
+            Thread.sleep(20);
+        }
+        return finished;
+    }
+
+    private int countOrders(OrderStatus orderStatus) {
+        return jdbcTemplate.queryForObject("select count(*) from orders where user_id in (:userIds) and order_status = :orderStatus",
+                Map.of("userIds", userIds, "orderStatus", orderStatus.name()), Integer.class);
+    }
+
+    private int productStockRemaining() {
+        return jdbcTemplate.queryForObject("select quantity from product_stocks where product_id = :productId",
+                Map.of("productId", hotProduct.getId()), Integer.class);
+    }
+}
@@ -0,0 +1,14 @@
+package com.portfolio.backend.controller.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@DisplayName("주문 API 부하 측정 - 플랫폼 스레드")
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadOrderLoadBenchmarkTest extends OrderLoadBenchmark {
+
+    @Override
+    protected String threadModel() {
+        return "platform";
+    }
+}
@@ -1,10 +1,13 @@
 package com.portfolio.backend.controller.product;
 
 import com.portfolio.backend.controller.ControllerTest;
+import com.portfolio.backend.domain.common.value.Money;
 import com.portfolio.backend.domain.product.entity.Product;
+import com.portfolio.backend.domain.product.entity.ProductCategory;
 import com.portfolio.backend.domain.product.entity.ProductStatus;
 import com.portfolio.backend.domain.product.fixture.ProductTestFixtures;
 import com.portfolio.backend.domain.product.repository.ProductRepository;
+import com.portfolio.backend.service.product.ProductService;
 import com.portfolio.backend.service.product.dto.ProductServiceRequest;
 import com.portfolio.backend.service.product.fixture.ProductServiceRequestTestFixtures;
 import jakarta.transaction.Transactional;
@@ -13,15 +16,19 @@ import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.math.BigDecimal;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -33,6 +40,8 @@ class ProductControllerTest extends ControllerTest {
 
     @Autowired
     private ProductRepository productRepository;
+    @Autowired
+    private ProductService productService;
 
     @BeforeEach
     void setUp() {
@@ -63,6 +72,105 @@ class ProductControllerTest extends ControllerTest {
                     .andExpect(jsonPath("$[0].name").exists())
                     .andExpect(jsonPath("$[1].name").exists());
         }
+
+        @Test
+        @DisplayName("목록이 바뀌지 않았으면 304 를, 상품이 추가되면 새 목록을 반환한다")
+        @WithAnonymousUser
+        void shouldRevalidateProductListWithETag() throws Exception {
+            // Given
+            String eTag = getProducts().andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // When & Then
+            mockMvc.perform(get("/api/products").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified());
+
+            productService.createProduct(ProductServiceRequestTestFixtures.createProductCreateRequest());
+
+            mockMvc.perform(get("/api/products").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(3)));
+        }
+    }
+
+    @Nested
+    @DisplayName("상품 목록 커서 조회 API")
+    class GetProductPage {
+
+        @SneakyThrows
+        ResultActions getProductPage(String cursor, int size) {
+            return mockMvc.perform(get("/api/products/cursor")
+                            .param("cursor", cursor)
+                            .param("size", String.valueOf(size)))
+                    .andDo(print());
+        }
+
+        @Test
+        @DisplayName("다음 커서로 이어서 조회하면 겹치지 않는 다음 페이지를 받는다")
+        @WithAnonymousUser
+        void shouldReturnNextPageWithCursor() throws Exception {
+            // Given
+            productRepository.save(ProductTestFixtures.createDefaultProduct(10));
+            List<Long> ids = productRepository.findAll().stream()
+                    .map(Product::getId)
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+
+            ProductPage first = resultActionsTo(getProductPage("", 2)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(2)))
+                    .andExpect(jsonPath("$.hasNext").value(true)), ProductPage.class);
+
+            // When & Then
+            getProductPage(first.nextCursor(), 2)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].id").value(ids.get(2)))
+                    .andExpect(jsonPath("$.hasNext").value(false))
+                    .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("카테고리를 지정하면 삭제되지 않은 그 카테고리 상품만 조회한다")
+        @WithAnonymousUser
+        void shouldReturnPageOfCategory() throws Exception {
+            // Given
+            Product food = productRepository.save(ProductTestFixtures.createProduct(null, "사과", new Money(BigDecimal.valueOf(2000)),
+                    new Money(BigDecimal.valueOf(1500)), "국산 사과", null, ProductCategory.FOOD, 10));
+            Product deletedFood = ProductTestFixtures.createProduct(null, "배", new Money(BigDecimal.valueOf(3000)),
+                    new Money(BigDecimal.valueOf(2500)), "국산 배", null, ProductCategory.FOOD, 10);
+            deletedFood.delete();
+            productRepository.save(deletedFood);
+
+            // When & Then
+            mockMvc.perform(get("/api/products/cursor")
+                            .param("category", ProductCategory.FOOD.name())
+                            .param("size", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].id").value(food.getId()))
+                    .andExpect(jsonPath("$.hasNext").value(false));
+        }
+
+        @Test
+        @DisplayName("잘못된 커서는 422 를 반환한다")
+        @WithAnonymousUser
+        void shouldRejectInvalidCursor() throws Exception {
+            // When & Then
+            getProductPage("not-a-cursor", 2)
+                    .andExpect(status().isUnprocessableEntity());
+        }
+
+        @Test
+        @DisplayName("페이지 크기가 최대값을 넘으면 400 을 반환한다")
+        @WithAnonymousUser
+        void shouldRejectTooLargePageSize() throws Exception {
+            // When & Then
+            getProductPage("", 101)
+                    .andExpect(status().isBadRequest());
+        }
+
+        record ProductPage(String nextCursor, boolean hasNext) {
+        }
     }
 
     @Nested
@@ -87,7 +195,45 @@ class ProductControllerTest extends ControllerTest {
             getProduct(product.getId())
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.id").value(product.getId()))
-                    .andExpect(jsonPath("$.name").value(product.getName()));
+                    .andExpect(jsonPath("$.name").value(product.getName()))
+                    .andExpect(header().exists(HttpHeaders.ETAG))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+        }
+
+        @Test
+        @DisplayName("ETag 가 일치하면 본문 없이 304 를 반환한다")
+        @WithAnonymousUser
+        void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+            // Given
+            Product product = productRepository.findAll().get(0);
+            String eTag = getProduct(product.getId()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // When & Then
+            mockMvc.perform(get("/api/products/{productId}", product.getId())
+                            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andDo(print())
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("상품이 수정되면 이전 ETag 로 요청해도 새 본문을 반환한다")
+        @WithAnonymousUser
+        void shouldReturnBodyWhenProductChanged() throws Exception {
+            // Given
+            Product product = productRepository.findAll().get(0);
+            String eTag = getProduct(product.getId()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            ProductServiceRequest.Update update = ProductServiceRequestTestFixtures.createProductUpdateRequest();
+            product.update(update.name(), update.originalPrice(), update.price(), update.description(),
+                    update.thumbnailImageUrl(), update.category());
+
+            // When & Then
+            mockMvc.perform(get("/api/products/{productId}", product.getId())
+                            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.name").value(update.name()))
+                    .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
         }
     }
 
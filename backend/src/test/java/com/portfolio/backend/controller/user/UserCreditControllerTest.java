@@ -4,12 +4,14 @@ import com.portfolio.backend.controller.ControllerTest;
 import com.portfolio.backend.domain.common.value.Money;
 import com.portfolio.backend.domain.user.entity.UserCredit;
 import com.portfolio.backend.domain.user.fixture.UserCreditTestFixtures;
+import com.portfolio.backend.domain.user.repository.UserCreditHistoryRepository;
 import com.portfolio.backend.domain.user.repository.UserCreditRepository;
 import com.portfolio.backend.service.user.dto.UserCreditServiceRequest;
 import com.portfolio.backend.service.user.dto.UserCreditServiceResponse;
 import com.portfolio.backend.service.user.fixture.UserCreditServiceRequestTestFixtures;
 import jakarta.transaction.Transactional;
 import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,14 +20,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 import java.math.BigDecimal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Transactional
@@ -35,6 +40,9 @@ class UserCreditControllerTest extends ControllerTest {
     @Autowired
     private UserCreditRepository userCreditRepository;
 
+    @Autowired
+    private UserCreditHistoryRepository userCreditHistoryRepository;
+
     @BeforeEach
     void setUp() {
         userCreditRepository.save(UserCreditTestFixtures.createUserCredit(user));
@@ -77,10 +85,18 @@ class UserCreditControllerTest extends ControllerTest {
         }
     }
 
+    // 충전은 시도마다 새 트랜잭션에서 실행되므로 테스트 트랜잭션 없이 커밋된 지갑으로 검증한다.
     @Nested
     @DisplayName("크레딧 충전 API")
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     class Increase {
 
+        @AfterEach
+        void tearDown() {
+            userCreditHistoryRepository.deleteAll();
+            userCreditRepository.deleteAll();
+        }
+
         @SneakyThrows
         ResultActions increase(UserCreditServiceRequest.Increase increase) {
             return mockMvc.perform(post("/api/users/credits")
@@ -97,16 +113,33 @@ class UserCreditControllerTest extends ControllerTest {
             UserCreditServiceRequest.Increase request = UserCreditServiceRequestTestFixtures.createIncrease(BigDecimal.valueOf(10000));
 
             // When
-            ResultActions resultActions = increase(request);
+            MvcResult asyncResult = increase(request)
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            ResultActions resultActions = mockMvc.perform(asyncDispatch(asyncResult));
 
             // Then
             resultActions
                     .andExpect(status().isOk());
 
-            UserCredit credit = userCreditRepository.findLockedByUserId(user.getId()).get();
+            UserCredit credit = userCreditRepository.findByUserId(user.getId()).get();
             assertThat(credit.getAmount()).isEqualTo(new Money(BigDecimal.valueOf(10000)));
         }
 
+        @Test
+        @DisplayName("최대 금액을 넘는 충전 요청은 400 으로 거절되어야 한다")
+        @WithUserDetails
+        void shouldReturnBadRequestWhenAmountExceedsMaxAmount() throws Exception {
+            // Given
+            String request = "{\"amount\": 100000000000000000}";
+
+            // When & Then
+            mockMvc.perform(post("/api/users/credits")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(request))
+                    .andExpect(status().isBadRequest());
+        }
+
         @Test
         @DisplayName("인증되지않은 사용자는 크레딧을 충전할 수 없다")
         @WithAnonymousUser
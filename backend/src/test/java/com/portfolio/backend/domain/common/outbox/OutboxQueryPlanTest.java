@@ -0,0 +1,301 @@
+package com.portfolio.backend.domain.common.outbox;
+
+import com.portfolio.backend.common.event.PaymentStatus;
+import com.portfolio.backend.common.event.ProductStockStatus;
+import com.portfolio.backend.domain.order.repository.PaymentOutboxRepository;
+import com.portfolio.backend.domain.order.repository.ProductStockOutboxRepository;
+import com.portfolio.backend.domain.product.repository.ProductStockOrderOutboxRepository;
+import com.portfolio.backend.domain.user.repository.UserCreditOrderOutboxRepository;
+import com.portfolio.backend.service.ServiceTest;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소 메서드가 실제로 만든 SQL 을 가로채 같은 파라미터로 EXPLAIN 한다.
+ * 손으로 옮긴 SQL 은 Hibernate 가 만드는 SQL(잠금 절, 페이지 절, 바인딩 타입)과 달라질 수 있기 때문이다.
+ */
+@Transactional
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.portfolio.backend.domain.common.outbox.OutboxQueryPlanTest$CapturingStatementInspector")
+@DisplayName("아웃박스 조회 실행 계획 테스트")
+class OutboxQueryPlanTest extends ServiceTest {
+
+    private static final int HISTORY_SIZE = 5000;
+    private static final int BATCH_SIZE = 100;
+    private static final UUID SAGA_ID = UUID.fromString("00000000-0000-0000-0000-000000000000");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PaymentOutboxRepository paymentOutboxRepository;
+    @Autowired
+    private ProductStockOutboxRepository productStockOutboxRepository;
+    @Autowired
+    private ProductStockOrderOutboxRepository productStockOrderOutboxRepository;
+    @Autowired
+    private UserCreditOrderOutboxRepository userCreditOrderOutboxRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 처리 완료된 이력이 쌓인 상황을 만든다.
+        jdbcTemplate.update("""
+                INSERT INTO payment_outbox (id, order_id, saga_id, saga_type, version, order_status, outbox_status, saga_status, payload, created_at, processed_at)
+                SELECT gen_random_uuid(), gen_random_uuid(), gen_random_uuid(), 'ORDER', 0, 'ORDERED', 'COMPLETED', 'SUCCEEDED', '{}', now() - g * interval '1 second', now()
+                FROM generate_series(1, ?) g
+                """, HISTORY_SIZE);
+        jdbcTemplate.update("""
+                INSERT INTO product_stock_outbox (id, order_id, saga_id, saga_type, version, order_status, outbox_status, saga_status, payload, created_at, processed_at)
+                SELECT gen_random_uuid(), gen_random_uuid(), gen_random_uuid(), 'ORDER', 0, 'ORDERED', 'COMPLETED', 'SUCCEEDED', '{}', now() - g * interval '1 second', now()
+                FROM generate_series(1, ?) g
+                """, HISTORY_SIZE);
+        jdbcTemplate.update("""
+                INSERT INTO product_stock_reduction_outbox (id, order_id, saga_id, version, outbox_status, product_stock_status, payload, created_at, processed_at)
+                SELECT gen_random_uuid(), gen_random_uuid(), gen_random_uuid(), 0, 'COMPLETED', 'COMPLETED', '{}', now() - g * interval '1 second', now()
+                FROM generate_series(1, ?) g
+                """, HISTORY_SIZE);
+        jdbcTemplate.update("""
+                INSERT INTO user_credit_order_outbox (id, order_id, saga_id, outbox_status, payment_status, payload, created_at, processed_at)
+                SELECT gen_random_uuid(), gen_random_uuid(), gen_random_uuid(), 'COMPLETED', 'COMPLETED', '{}', now() - g * interval '1 second', now()
+                FROM generate_series(1, ?) g
+                """, HISTORY_SIZE);
+
+        jdbcTemplate.execute("ANALYZE payment_outbox, product_stock_outbox, product_stock_reduction_outbox, user_credit_order_outbox");
+    }
+
+    @Nested
+    @DisplayName("payment_outbox")
+    class PaymentOutboxPlan {
+
+        @Test
+        @DisplayName("처리 대기 행 선점은 부분 인덱스를 사용해야 한다")
+        void shouldUsePendingIndexWhenClaiming() {
+            // Given
+            LocalDateTime claimExpiredAt = LocalDateTime.now();
+
+            // When
+            String plan = explain(
+                    () -> paymentOutboxRepository.findClaimableBySagaType(SagaType.ORDER, claimExpiredAt, PageRequest.of(0, BATCH_SIZE)),
+                    SagaType.ORDER.name(), claimExpiredAt, BATCH_SIZE);
+
+            // Then
+            assertThat(plan).contains("idx_payment_outbox_pending").doesNotContain("Seq Scan");
+        }
+
+        @Test
+        @DisplayName("보상 대상 선점은 saga_status 인덱스를 사용해야 한다")
+        void shouldUseSagaStatusIndexWhenClaimingCompensating() {
+            // Given
+            LocalDateTime claimExpiredAt = LocalDateTime.now();
+
+            // When
+            String plan = explain(
+                    () -> paymentOutboxRepository.findClaimableBySagaStatusAndOutboxStatus(
+                            SagaStatus.COMPENSATING, OutboxStatus.COMPLETED, claimExpiredAt, PageRequest.of(0, BATCH_SIZE)),
+                    SagaStatus.COMPENSATING.name(), OutboxStatus.COMPLETED.name(), claimExpiredAt, BATCH_SIZE);
+
+            // Then
+            assertThat(plan).contains("idx_payment_outbox_saga_status").doesNotContain("Seq Scan");
+        }
+
+        @Test
+        @DisplayName("saga id 조회는 saga_id 인덱스를 사용해야 한다")
+        void shouldUseSagaIdIndex() {
+            // When
+            String plan = explain(
+                    () -> paymentOutboxRepository.findBySagaIdAndOutboxStatus(SAGA_ID, OutboxStatus.STARTED),
+                    SAGA_ID, OutboxStatus.STARTED.name());
+
+            // Then
+            assertThat(plan).contains("idx_payment_outbox_saga_id").doesNotContain("Seq Scan");
+        }
+    }
+
+    @Nested
+    @DisplayName("product_stock_outbox")
+    class ProductStockOutboxPlan {
+
+        @Test
+        @DisplayName("처리 대기 행 선점은 부분 인덱스를 사용해야 한다")
+        void shouldUsePendingIndexWhenClaiming() {
+            // Given
+            LocalDateTime claimExpiredAt = LocalDateTime.now();
+
+            // When
+            String plan = explain(
+                    () -> productStockOutboxRepository.findClaimableBySagaType(SagaType.ORDER, claimExpiredAt, PageRequest.of(0, BATCH_SIZE)),
+                    SagaType.ORDER.name(), claimExpiredAt, BATCH_SIZE);
+
+            // Then
+            assertThat(plan).contains("idx_product_stock_outbox_pending").doesNotContain("Seq Scan");
+        }
+
+        @Test
+        @DisplayName("saga id 조회는 saga_id 인덱스를 사용해야 한다")
+        void shouldUseSagaIdIndex() {
+            // When
+            String plan = explain(
+                    () -> productStockOutboxRepository.findBySagaIdAndOutboxStatus(SAGA_ID, OutboxStatus.STARTED),
+                    SAGA_ID, OutboxStatus.STARTED.name());
+
+            // Then
+            assertThat(plan).contains("idx_product_stock_outbox_saga_id").doesNotContain("Seq Scan");
+        }
+    }
+
+    @Nested
+    @DisplayName("product_stock_reduction_outbox")
+    class ProductStockReductionOutboxPlan {
+
+        @Test
+        @DisplayName("처리 대기 행 선점은 부분 인덱스를 사용해야 한다")
+        void shouldUsePendingIndexWhenClaiming() {
+            // Given
+            LocalDateTime claimExpiredAt = LocalDateTime.now();
+
+            // When
+            String plan = explain(
+                    () -> productStockOrderOutboxRepository.findClaimable(claimExpiredAt, PageRequest.of(0, BATCH_SIZE)),
+                    claimExpiredAt, BATCH_SIZE);
+
+            // Then
+            assertThat(plan).contains("idx_product_stock_reduction_outbox_pending").doesNotContain("Seq Scan");
+        }
+
+        @Test
+        @DisplayName("실패/보상 대상 선점은 상태 인덱스를 사용해야 한다")
+        void shouldUseStatusIndexWhenClaimingFailures() {
+            // Given
+            LocalDateTime claimExpiredAt = LocalDateTime.now();
+
+            // When
+            String plan = explain(
+                    () -> productStockOrderOutboxRepository.findClaimableByOutboxStatusAndProductStockStatus(
+                            OutboxStatus.STARTED, ProductStockStatus.FAILED, claimExpiredAt, PageRequest.of(0, BATCH_SIZE)),
+                    OutboxStatus.STARTED.name(), ProductStockStatus.FAILED.name(), claimExpiredAt, BATCH_SIZE);
+
+            // Then
+            assertThat(plan).contains("idx_product_stock_reduction_outbox_status").doesNotContain("Seq Scan");
+        }
+
+        @Test
+        @DisplayName("saga id 조회는 saga_id 인덱스를 사용해야 한다")
+        void shouldUseSagaIdIndex() {
+            // When
+            String plan = explain(
+                    () -> productStockOrderOutboxRepository.findBySagaIdAndOutboxStatus(SAGA_ID, OutboxStatus.COMPLETED),
+                    SAGA_ID, OutboxStatus.COMPLETED.name());
+
+            // Then
+            assertThat(plan).contains("idx_product_stock_reduction_outbox_saga_id").doesNotContain("Seq Scan");
+        }
+    }
+
+    @Nested
+    @DisplayName("user_credit_order_outbox")
+    class UserCreditOrderOutboxPlan {
+
+        @Test
+        @DisplayName("처리 대기 행 선점은 부분 인덱스를 사용해야 한다")
+        void shouldUsePendingIndexWhenClaiming() {
+            // Given
+            LocalDateTime claimExpiredAt = LocalDateTime.now();
+
+            // When
+            String plan = explain(
+                    () -> userCreditOrderOutboxRepository.findClaimable(claimExpiredAt, PageRequest.of(0, BATCH_SIZE)),
+                    claimExpiredAt, BATCH_SIZE);
+
+            // Then
+            assertThat(plan).contains("idx_user_credit_order_outbox_pending").doesNotContain("Seq Scan");
+        }
+
+        @Test
+        @DisplayName("실패/보상 대상 선점은 상태 인덱스를 사용해야 한다")
+        void shouldUseStatusIndexWhenClaimingFailures() {
+            // Given
+            LocalDateTime claimExpiredAt = LocalDateTime.now();
+
+            // When
+            String plan = explain(
+                    () -> userCreditOrderOutboxRepository.findClaimableByOutboxStatusAndPaymentStatus(
+                            OutboxStatus.STARTED, PaymentStatus.COMPENSATING, claimExpiredAt, PageRequest.of(0, BATCH_SIZE)),
+                    OutboxStatus.STARTED.name(), PaymentStatus.COMPENSATING.name(), claimExpiredAt, BATCH_SIZE);
+
+            // Then
+            assertThat(plan).contains("idx_user_credit_order_outbox_status").doesNotContain("Seq Scan");
+        }
+
+        @Test
+        @DisplayName("saga id 조회는 saga_id 인덱스를 사용해야 한다")
+        void shouldUseSagaIdIndex() {
+            // When
+            String plan = explain(
+                    () -> userCreditOrderOutboxRepository.findBySagaIdAndOutboxStatus(SAGA_ID, OutboxStatus.COMPLETED),
+                    SAGA_ID, OutboxStatus.COMPLETED.name());
+
+            // Then
+            assertThat(plan).contains("idx_user_credit_order_outbox_saga_id").doesNotContain("Seq Scan");
+        }
+    }
+
+    /**
+     * 저장소 호출이 실행한 select 문을 받아 호출 때와 같은 순서의 파라미터로 EXPLAIN 한다.
+     */
+    private String explain(Runnable repositoryCall, Object... params) {
+        List<String> statements = CapturingStatementInspector.capture(repositoryCall);
+        List<String> selects = statements.stream()
+                .filter(sql -> sql.stripLeading().toLowerCase().startsWith("select"))
+                .toList();
+        assertThat(selects).hasSize(1);
+
+        String sql = selects.get(0);
+        assertThat(sql.chars().filter(c -> c == '?').count()).isEqualTo(params.length);
+        List<String> lines = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, params);
+        return String.join("\n", lines);
+    }
+
+    /**
+     * Hibernate 가 JDBC 로 보내기 직전의 SQL 을 현재 스레드 기준으로 기록한다.
+     * 스케줄러 스레드가 같은 세션 팩토리를 쓰더라도 테스트 스레드의 SQL 만 모인다.
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+        static List<String> capture(Runnable call) {
+            List<String> statements = new ArrayList<>();
+            CAPTURED.set(statements);
+            try {
+                call.run();
+            } finally {
+                CAPTURED.remove();
+            }
+            return statements;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = CAPTURED.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+}
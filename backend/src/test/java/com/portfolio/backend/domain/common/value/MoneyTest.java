@@ -1,5 +1,6 @@
 package com.portfolio.backend.domain.common.value;
 
+import com.portfolio.backend.common.exception.DomainException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -57,6 +58,19 @@ class MoneyTest {
                     .hasMessageContaining("금액은 음수가 될 수 없습니다");
         }
 
+        @Test
+        @DisplayName("최대 금액을 넘는 금액으로 Money 객체를 생성하면 예외가 발생한다")
+        void shouldThrowExceptionWhenCreatingMoneyOverMaxAmount() {
+            // Given
+            BigDecimal overMax = Money.MAX_AMOUNT.add(new BigDecimal("0.01"));
+
+            // When, Then
+            assertThat(new Money(Money.MAX_AMOUNT).getAmount()).isEqualTo(Money.MAX_AMOUNT);
+            assertThatThrownBy(() -> new Money(overMax))
+                    .isInstanceOf(DomainException.class)
+                    .hasMessageContaining("금액이 허용 범위를 넘었습니다.");
+        }
+
         @Test
         @DisplayName("null 금액으로 Money 객체를 생성하면 예외가 발생한다")
         void shouldThrowExceptionWhenCreatingMoneyWithNullAmount() {
@@ -70,6 +84,24 @@ class MoneyTest {
     @DisplayName("Money 연산 시")
     class MoneyOperationTest {
 
+        @Test
+        @DisplayName("더하거나 곱한 결과가 최대 금액을 넘으면 예외가 발생한다")
+        void shouldThrowExceptionWhenResultExceedsMaxAmount() {
+            // Given
+            Money max = new Money(Money.MAX_AMOUNT);
+            Money cent = new Money(new BigDecimal("0.01"));
+
+            // When, Then
+            assertThat(max.exceedsMaxWhenAdded(cent)).isTrue();
+            assertThat(max.exceedsMaxWhenAdded(Money.zero())).isFalse();
+            assertThatThrownBy(() -> max.add(cent))
+                    .isInstanceOf(DomainException.class)
+                    .hasMessageContaining("금액이 허용 범위를 넘었습니다.");
+            assertThatThrownBy(() -> max.multiply(2))
+                    .isInstanceOf(DomainException.class)
+                    .hasMessageContaining("금액이 허용 범위를 넘었습니다.");
+        }
+
         @Test
         @DisplayName("Money 객체를 더할 수 있다")
         void shouldAddMoney() {
@@ -127,6 +159,63 @@ class MoneyTest {
         }
     }
 
+    @Nested
+    @DisplayName("Money 정수 연산 시")
+    class MoneyMinorUnitOperationTest {
+
+        @Test
+        @DisplayName("수량을 곱해도 소수점 둘째 자리까지 정확하게 계산한다")
+        void shouldMultiplyByQuantityExactly() {
+            // Given
+            Money money = new Money(new BigDecimal("1234.56"));
+
+            // When
+            Money result = money.multiply(3);
+
+            // Then
+            assertThat(result.getAmount()).isEqualTo(new BigDecimal("3703.68"));
+        }
+
+        @Test
+        @DisplayName("소수점 셋째 자리부터는 반올림해 저장한다")
+        void shouldRoundToTwoDecimalPlaces() {
+            // When
+            Money money = new Money(new BigDecimal("10.005"));
+
+            // Then
+            assertThat(money.getAmount()).isEqualTo(new BigDecimal("10.01"));
+            assertThat(money).isEqualTo(new Money(new BigDecimal("10.01")));
+        }
+
+        @Test
+        @DisplayName("뺀 결과가 음수면 예외가 발생한다")
+        void shouldThrowExceptionWhenSubtractResultIsNegative() {
+            // Given
+            Money smaller = new Money(BigDecimal.valueOf(5000));
+            Money larger = new Money(BigDecimal.valueOf(10000));
+
+            // When, Then
+            assertThatThrownBy(() -> smaller.subtract(larger))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("금액은 음수가 될 수 없습니다");
+        }
+
+        @Test
+        @DisplayName("표현 가능한 범위를 넘으면 예외가 발생한다")
+        void shouldThrowExceptionWhenOverflow() {
+            // Given
+            Money max = new Money(BigDecimal.valueOf(Long.MAX_VALUE, 2));
+
+            // When, Then
+            assertThatThrownBy(() -> max.add(new Money(BigDecimal.ONE)))
+                    .isInstanceOf(ArithmeticException.class);
+            assertThatThrownBy(() -> max.multiply(2))
+                    .isInstanceOf(ArithmeticException.class);
+            assertThatThrownBy(() -> new Money(BigDecimal.valueOf(Long.MAX_VALUE)))
+                    .isInstanceOf(ArithmeticException.class);
+        }
+    }
+
     @Nested
     @DisplayName("Money 비교 시")
     class MoneyComparisonTest {
@@ -12,6 +12,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 class ProductStockTest {
 
@@ -176,6 +177,22 @@ class ProductStockTest {
                     .hasMessageContaining("재고가 부족합니다");
         }
 
+        @Test
+        @DisplayName("재고 부족 예외는 스택 트레이스 없이 같은 인스턴스를 재사용해야 한다")
+        void shouldReuseStacklessExceptionWhenOutOfStock() {
+            // given
+            Product product = ProductTestFixtures.createDefaultProduct(1);
+            ProductStock stock = new ProductStock(product, 1);
+
+            // when
+            Throwable first = catchThrowable(() -> stock.decrease(2, StockChangeReason.SALE));
+            Throwable second = catchThrowable(() -> stock.decrease(3, StockChangeReason.SALE));
+
+            // then
+            assertThat(first).isSameAs(ProductStock.OUT_OF_STOCK).isSameAs(second);
+            assertThat(first.getStackTrace()).isEmpty();
+        }
+
         @Test
         @DisplayName("재고와 같은 수량을 감소시키면 수량이 0이 되어야 한다")
         void decreaseStockToZero() {
@@ -0,0 +1,199 @@
+package com.portfolio.backend.domain.product.service;
+
+import com.portfolio.backend.domain.product.entity.Product;
+import com.portfolio.backend.domain.product.fixture.ProductTestFixtures;
+import com.portfolio.backend.domain.product.repository.ProductRepository;
+import com.portfolio.backend.domain.product.repository.ProductStockRepository;
+import com.portfolio.backend.domain.product.service.dto.ProductStockItemDto;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import com.portfolio.backend.service.ServiceTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductStockManager 동시성 테스트")
+class ProductStockConcurrencyTest extends ServiceTest {
+
+    private static final int THREADS = 8;
+    private static final int ORDERS_PER_THREAD = 25;
+    private static final int INITIAL_QUANTITY = 1000;
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    @Autowired
+    private ProductStockManager productStockManager;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 상품을 서로 다른 순서로 담은 주문이 동시에 들어와도 교착 없이 모두 처리되어야 한다")
+    void shouldSellConcurrentlyWithoutDeadlockRegardlessOfItemOrder() throws InterruptedException {
+        // Given
+        List<Long> productIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            productIds.add(productRepository.save(ProductTestFixtures.createDefaultProduct(INITIAL_QUANTITY)).getId());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            boolean reversed = t % 2 == 1;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < ORDERS_PER_THREAD; i++) {
+                        List<ProductStockItemDto> items = new ArrayList<>(productIds.stream()
+                                .map(productId -> new ProductStockItemDto(productId, 1))
+                                .toList());
+                        if (reversed) {
+                            Collections.reverse(items);
+                        }
+                        productStockManager.sale(items);
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // When
+        start.countDown();
+        boolean finished = done.await(60, TimeUnit.SECONDS);
+        executor.shutdownNow();
+
+        // Then
+        int orders = THREADS * ORDERS_PER_THREAD;
+
+        assertThat(finished).isTrue();
+        assertThat(failures).isEmpty();
+        for (Long productId : productIds) {
+            Product product = productRepository.findById(productId).get();
+            assertThat(productStockRepository.findByProductId(product.getId()).get().getQuantity())
+                    .isEqualTo(INITIAL_QUANTITY - orders);
+        }
+    }
+
+    @Test
+    @DisplayName("조각으로 나뉜 상품들을 서로 다른 순서로 담은 판매와 환불이 동시에 들어와도 교착 없이 모두 처리되어야 한다")
+    void shouldRefundShardedStockConcurrentlyWithoutDeadlockRegardlessOfItemOrder() throws InterruptedException {
+        // Given
+        List<Long> productIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Long productId = productRepository.save(ProductTestFixtures.createDefaultProduct(INITIAL_QUANTITY)).getId();
+            productStockManager.rebalance(productId, 2);
+            productIds.add(productId);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            boolean reversed = t % 2 == 1;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < ORDERS_PER_THREAD; i++) {
+                        // 같은 조각을 두 번 담아 한 환불 안에서도 조각 순서가 섞이게 한다.
+                        List<ProductStockItemDto> items = new ArrayList<>(productIds.stream()
+                                .flatMap(productId -> List.of(new ProductStockItemDto(productId, 1),
+                                        new ProductStockItemDto(productId, 1)).stream())
+                                .toList());
+                        if (reversed) {
+                            Collections.reverse(items);
+                        }
+                        productStockManager.sale(items);
+                        productStockManager.refund(items);
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // When
+        start.countDown();
+        boolean finished = done.await(60, TimeUnit.SECONDS);
+        executor.shutdownNow();
+
+        // Then
+        assertThat(finished).isTrue();
+        assertThat(failures).isEmpty();
+        assertThat(productStockRepository.findAllQuantities())
+                .filteredOn(stock -> productIds.contains(stock.getProductId()))
+                .extracting(ProductStockItemDto::getQuantity)
+                .containsOnly(INITIAL_QUANTITY);
+    }
+
+    @ParameterizedTest(name = "조각 수: {0}")
+    @ValueSource(ints = {1, 4})
+    @DisplayName("조각으로 나뉜 인기 상품에 판매가 몰려도 초과 판매 없이 모두 처리되어야 한다")
+    void shouldSellShardedStockConcurrentlyWithoutOverselling(int bucketCount) throws InterruptedException {
+        // Given
+        Long productId = productRepository.save(ProductTestFixtures.createDefaultProduct(INITIAL_QUANTITY)).getId();
+        productStockManager.rebalance(productId, bucketCount);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < ORDERS_PER_THREAD; i++) {
+                        productStockManager.sale(productId, 1);
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // When
+        start.countDown();
+        boolean finished = done.await(60, TimeUnit.SECONDS);
+        executor.shutdownNow();
+
+        // Then
+        int orders = THREADS * ORDERS_PER_THREAD;
+
+        assertThat(finished).isTrue();
+        assertThat(failures).isEmpty();
+        assertThat(productStockRepository.findAllQuantities())
+                .filteredOn(stock -> stock.getProductId().equals(productId))
+                .extracting(ProductStockItemDto::getQuantity)
+                .containsExactly(INITIAL_QUANTITY - orders);
+    }
+}
@@ -6,10 +6,13 @@ import com.portfolio.backend.common.event.EventPublisher;
 import com.portfolio.backend.domain.product.entity.Product;
 import com.portfolio.backend.domain.product.entity.ProductStatus;
 import com.portfolio.backend.domain.product.entity.ProductStock;
+import com.portfolio.backend.domain.product.entity.ProductStockBucket;
 import com.portfolio.backend.domain.product.event.ProductStockChangedEvent;
 import com.portfolio.backend.domain.product.fixture.ProductTestFixtures;
 import com.portfolio.backend.domain.product.repository.ProductRepository;
+import com.portfolio.backend.domain.product.repository.ProductStockBucketRepository;
 import com.portfolio.backend.domain.product.repository.ProductStockRepository;
+import com.portfolio.backend.domain.product.service.dto.ProductStockItemDto;
 import com.portfolio.backend.service.ServiceTest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +22,15 @@ import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -31,6 +43,8 @@ class ProductStockManagerTest extends ServiceTest {
     private ProductRepository productRepository;
     @Autowired
     private ProductStockRepository productStockRepository;
+    @Autowired
+    private ProductStockBucketRepository productStockBucketRepository;
 
     @Autowired
     private ProductStockManager productStockManager;
@@ -345,4 +359,166 @@ class ProductStockManagerTest extends ServiceTest {
             assertTrue(hasExpectedEvent, "도메인 이벤트에 ProductStockChangedEvent가 포함되어 있어야 합니다");
         }
     }
+
+    @Nested
+    @DisplayName("재고 조각 처리")
+    class Buckets {
+
+        @Test
+        @DisplayName("재고를 조각으로 나누면 총 수량은 유지되고 조각마다 고르게 나뉘어야 한다")
+        void shouldSplitStockEvenlyIntoBuckets() {
+            // Given
+            Product product = productRepository.save(ProductTestFixtures.createDefaultProduct(10));
+
+            // When
+            productStockManager.rebalance(product.getId(), 4);
+
+            // Then
+            assertThat(totalQuantity(product.getId())).isEqualTo(10);
+            assertThat(productStockBucketRepository.findAll().stream()
+                    .filter(bucket -> bucket.getProductId().equals(product.getId()))
+                    .sorted(Comparator.comparing(ProductStockBucket::getBucketNo))
+                    .map(ProductStockBucket::getQuantity))
+                    .containsExactly(3, 3, 2, 2);
+        }
+
+        @Test
+        @DisplayName("한 조각으로 부족한 수량은 여러 조각에 나눠 차감해야 한다")
+        void shouldSellAcrossBucketsWhenSingleBucketIsNotEnough() {
+            // Given
+            Product product = productRepository.save(ProductTestFixtures.createDefaultProduct(10));
+            productStockManager.rebalance(product.getId(), 4);
+
+            // When
+            productStockManager.sale(product.getId(), 5);
+
+            // Then
+            assertThat(totalQuantity(product.getId())).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("조각 합계보다 많이 판매하면 예외가 발생하고 재고는 그대로여야 한다")
+        void shouldRejectSaleWhenBucketsAreNotEnough() {
+            // Given
+            Product product = productRepository.save(ProductTestFixtures.createDefaultProduct(10));
+            productStockManager.rebalance(product.getId(), 4);
+
+            // When & Then
+            assertThatThrownBy(() -> productStockManager.sale(product.getId(), 11))
+                    .isInstanceOf(UnprocessableEntityException.class)
+                    .hasMessageContaining("재고가 부족합니다");
+            assertThat(totalQuantity(product.getId())).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("조각으로 나뉜 재고도 반품과 조정이 총 수량에 반영되어야 한다")
+        void shouldRefundAndAdjustShardedStock() {
+            // Given
+            Product product = productRepository.save(ProductTestFixtures.createDefaultProduct(10));
+            productStockManager.rebalance(product.getId(), 4);
+
+            // When
+            productStockManager.refund(product.getId(), 3);
+            int afterRefund = totalQuantity(product.getId());
+            productStockManager.adjust(product.getId(), 20, "재고 조정");
+
+            // Then
+            assertThat(afterRefund).isEqualTo(13);
+            assertThat(totalQuantity(product.getId())).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("조각 수를 0으로 하면 재고 행 하나로 합쳐져야 한다")
+        void shouldMergeBucketsBackIntoSingleRow() {
+            // Given
+            Product product = productRepository.save(ProductTestFixtures.createDefaultProduct(10));
+            productStockManager.rebalance(product.getId(), 4);
+            productStockManager.sale(product.getId(), 1);
+
+            // When
+            productStockManager.rebalance(product.getId(), 0);
+
+            // Then
+            assertThat(productStockBucketRepository.findAll())
+                    .noneMatch(bucket -> bucket.getProductId().equals(product.getId()));
+            assertThat(productStockRepository.findByProductId(product.getId()).get().getQuantity()).isEqualTo(9);
+        }
+
+        @Test
+        @DisplayName("서로 다른 조각의 마지막 수량이 동시에 팔려도 상품은 품절 상태가 되어야 한다")
+        void shouldMarkSoldOutWhenLastUnitsOfDifferentBucketsSellConcurrently() throws Exception {
+            for (int round = 0; round < 5; round++) {
+                // Given
+                Product product = productRepository.save(ProductTestFixtures.createDefaultProduct(2));
+                productStockManager.rebalance(product.getId(), 2);
+
+                ExecutorService executor = Executors.newFixedThreadPool(2);
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> sales = new ArrayList<>();
+                for (int i = 0; i < 2; i++) {
+                    sales.add(executor.submit(() -> {
+                        start.await();
+                        productStockManager.sale(product.getId(), 1);
+                        return null;
+                    }));
+                }
+
+                // When
+                start.countDown();
+                for (Future<?> sale : sales) {
+                    sale.get(10, TimeUnit.SECONDS);
+                }
+                executor.shutdown();
+
+                // Then
+                assertThat(totalQuantity(product.getId())).isZero();
+                assertThat(productRepository.findById(product.getId()).get().getStatus()).isEqualTo(ProductStatus.SOLD_OUT);
+            }
+        }
+
+        @Test
+        @DisplayName("품절된 조각 재고에 반품되면 다시 판매 가능 상태가 되어야 한다")
+        void shouldActivateSoldOutShardedProductWhenRefunded() {
+            // Given
+            Product product = productRepository.save(ProductTestFixtures.createDefaultProduct(1));
+            productStockManager.rebalance(product.getId(), 2);
+            productStockManager.sale(product.getId(), 1);
+            ProductStatus afterSale = productRepository.findById(product.getId()).get().getStatus();
+
+            // When
+            productStockManager.refund(product.getId(), 1);
+
+            // Then
+            assertThat(afterSale).isEqualTo(ProductStatus.SOLD_OUT);
+            assertThat(productRepository.findById(product.getId()).get().getStatus()).isEqualTo(ProductStatus.ACTIVE);
+        }
+
+        @Test
+        @DisplayName("조각 하나에서 판매하면 이력은 잠근 조각의 수량 기준으로 남아야 한다")
+        void shouldRecordBucketQuantityInStockChangedEvent() {
+            // Given
+            Product product = productRepository.save(ProductTestFixtures.createDefaultProduct(10));
+            productStockManager.rebalance(product.getId(), 2);
+
+            // When
+            productStockManager.sale(product.getId(), 1);
+
+            // Then
+            ArgumentCaptor<ProductStock> captor = ArgumentCaptor.forClass(ProductStock.class);
+            verify(eventPublisher).publishDomainEventsFrom(captor.capture());
+            ProductStockChangedEvent event = (ProductStockChangedEvent) captor.getValue().getDomainEvents().get(0);
+            assertThat(event.getBucketNo()).isNotNull();
+            assertThat(event.getPreviousQuantity()).isEqualTo(5);
+            assertThat(event.getChangedQuantity()).isEqualTo(-1);
+        }
+
+        // 조각은 지연 로딩되므로 트랜잭션 밖에서는 합산 쿼리로 확인한다.
+        private int totalQuantity(Long productId) {
+            return productStockRepository.findAllQuantities().stream()
+                    .filter(stock -> stock.getProductId().equals(productId))
+                    .findFirst()
+                    .map(ProductStockItemDto::getQuantity)
+                    .orElseThrow();
+        }
+    }
 }
@@ -0,0 +1,178 @@
+package com.portfolio.backend.domain.product.service;
+
+import com.portfolio.backend.common.exception.DomainException;
+import com.portfolio.backend.common.exception.UnprocessableEntityException;
+import com.portfolio.backend.domain.product.entity.Product;
+import com.portfolio.backend.domain.product.fixture.ProductTestFixtures;
+import com.portfolio.backend.domain.product.repository.ProductRepository;
+import com.portfolio.backend.domain.product.repository.ProductStockRepository;
+import com.portfolio.backend.domain.product.service.dto.ProductStockItemDto;
+import com.portfolio.backend.service.ServiceTest;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProductStockReservationLedger 테스트")
+class ProductStockReservationLedgerTest extends ServiceTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    @Autowired
+    private ProductStockManager productStockManager;
+    @Autowired
+    private ProductStockReservationLedger productStockReservationLedger;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManager entityManager;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("판매가 커밋되면 장부의 가용 재고가 줄어야 한다")
+    void shouldDecreaseAvailableWhenSaleCommitted() {
+        // Given
+        Product product = productRepository.save(ProductTestFixtures.createDefaultProduct(10));
+
+        // When
+        productStockManager.sale(product.getId(), 3);
+
+        // Then
+        assertThat(productStockReservationLedger.getAvailable(product.getId())).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("여러 상품 중 하나라도 부족하면 어떤 상품도 예약하지 않아야 한다")
+    void shouldReserveNothingWhenAnyItemIsInsufficient() {
+        // Given
+        Product enough = productRepository.save(ProductTestFixtures.createDefaultProduct(10));
+        Product scarce = productRepository.save(ProductTestFixtures.createDefaultProduct(1));
+
+        // When & Then
+        assertThatThrownBy(() -> productStockManager.sale(List.of(
+                new ProductStockItemDto(enough.getId(), 5),
+                new ProductStockItemDto(scarce.getId(), 2))))
+                .isInstanceOf(UnprocessableEntityException.class)
+                .hasMessageContaining("재고가 부족합니다.");
+
+        assertThat(productStockReservationLedger.getAvailable(enough.getId())).isEqualTo(10);
+        assertThat(productStockRepository.findByProductId(enough.getId()).get().getQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("DB 처리에서 실패하면 예약이 반환되어야 한다")
+    void shouldReleaseReservationWhenTransactionRollsBack() {
+        // Given
+        Product product = ProductTestFixtures.createDefaultProduct(10);
+        product.delete();
+        productRepository.save(product);
+
+        // When & Then
+        assertThatThrownBy(() -> productStockManager.sale(product.getId(), 5))
+                .isInstanceOf(DomainException.class);
+
+        assertThat(productStockReservationLedger.getAvailable(product.getId())).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("반품과 조정은 커밋된 변경량만큼 장부에 반영되어야 한다")
+    void shouldApplyRefundAndAdjustToLedger() {
+        // Given
+        Product product = productRepository.save(ProductTestFixtures.createDefaultProduct(10));
+        productStockManager.sale(product.getId(), 4);
+
+        // When
+        productStockManager.refund(product.getId(), 2);
+        int afterRefund = productStockReservationLedger.getAvailable(product.getId());
+        productStockManager.adjust(product.getId(), 20, "재고 조정 테스트");
+
+        // Then
+        assertThat(afterRefund).isEqualTo(8);
+        assertThat(productStockReservationLedger.getAvailable(product.getId())).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("장부를 다시 만들어도 진행 중인 예약은 유지되어야 한다")
+    void shouldKeepInFlightReservationWhenRebuilt() {
+        // Given
+        Product product = productRepository.save(ProductTestFixtures.createDefaultProduct(10));
+        ProductStockReservationLedger ledger = createLedger(Duration.ofSeconds(1));
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            ledger.reserve(List.of(new ProductStockItemDto(product.getId(), 4)));
+            ledger.rebuild();
+            assertThat(ledger.getAvailable(product.getId())).isEqualTo(6);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(ledger.getAvailable(product.getId())).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 반품한 재고는 재확인 간격이 지나야 판매할 수 있다")
+    void shouldSeeOtherInstanceRefundOnlyAfterResyncInterval() {
+        // Given
+        Product product = productRepository.save(ProductTestFixtures.createDefaultProduct(1));
+        productStockManager.sale(product.getId(), 1);
+        ProductStockReservationLedger stale = createLedger(Duration.ofHours(1));
+        ProductStockReservationLedger fresh = createLedger(Duration.ZERO);
+        stale.rebuild();
+        fresh.rebuild();
+
+        // When
+        productStockManager.refund(product.getId(), 1);
+
+        // Then
+        List<ProductStockItemDto> items = List.of(new ProductStockItemDto(product.getId(), 1));
+        assertThatThrownBy(() -> stale.reserve(items))
+                .isInstanceOf(UnprocessableEntityException.class)
+                .hasMessageContaining("재고가 부족합니다.");
+        fresh.reserve(items);
+        assertThat(fresh.getAvailable(product.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("장부가 DB 에서 수량을 읽어도 판매 트랜잭션에 재고 엔티티를 올리지 않아야 한다")
+    void shouldNotLoadStockEntityWhenReadingQuantity() {
+        // Given
+        Product product = productRepository.save(ProductTestFixtures.createDefaultProduct(10));
+        ProductStockReservationLedger ledger = createLedger(Duration.ZERO);
+
+        // When
+        int loadedEntities = new TransactionTemplate(transactionManager).execute(status -> {
+            ledger.reserve(List.of(new ProductStockItemDto(product.getId(), 4)));
+            assertThatThrownBy(() -> ledger.reserve(List.of(new ProductStockItemDto(product.getId(), 7))))
+                    .isInstanceOf(UnprocessableEntityException.class);
+            status.setRollbackOnly();
+            return entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+        });
+
+        // Then
+        assertThat(loadedEntities).isZero();
+    }
+
+    private ProductStockReservationLedger createLedger(Duration resyncInterval) {
+        ProductStockReservationProperties properties = new ProductStockReservationProperties();
+        properties.setResyncInterval(resyncInterval);
+        return new ProductStockReservationLedger(productStockRepository, properties);
+    }
+}
@@ -0,0 +1,184 @@
+package com.portfolio.backend.domain.product.service;
+
+import com.portfolio.backend.common.event.EventPublisher;
+import com.portfolio.backend.domain.product.entity.Product;
+import com.portfolio.backend.domain.product.entity.ProductStatus;
+import com.portfolio.backend.domain.product.entity.ProductStock;
+import com.portfolio.backend.domain.product.entity.StockChangeReason;
+import com.portfolio.backend.domain.product.fixture.ProductTestFixtures;
+import com.portfolio.backend.domain.product.repository.ProductRepository;
+import com.portfolio.backend.domain.product.repository.ProductStockRepository;
+import com.portfolio.backend.domain.product.service.dto.ProductStockItemDto;
+import com.portfolio.backend.service.ServiceTest;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 상품들에 판매가 몰릴 때 재고 경로별 초당 주문 수를 비교한다. ./gradlew benchmark 로 실행한다.
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("ProductStockManager 판매 처리량 벤치마크")
+class ProductStockSaleBenchmark extends ServiceTest {
+
+    private static final int THREADS = 8;
+    private static final int WARMUP_ORDERS_PER_THREAD = 20;
+    private static final int ORDERS_PER_THREAD = 100;
+    private static final int INITIAL_QUANTITY = 10_000;
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    @Autowired
+    private ProductStockManager productStockManager;
+    @Autowired
+    private EventPublisher eventPublisher;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("재고를 4개 조각으로 나누면 한 행에 모을 때보다 초당 주문 수가 많아야 한다")
+    void shouldSellFasterOverMultipleBuckets() throws InterruptedException {
+        // Given
+        Long singleBucketProductId = createShardedProduct(1);
+        Long multiBucketProductId = createShardedProduct(4);
+
+        // When
+        long singleBucket = measureOrdersPerSecond(() -> productStockManager.sale(singleBucketProductId, 1));
+        long multiBucket = measureOrdersPerSecond(() -> productStockManager.sale(multiBucketProductId, 1));
+
+        // Then
+        log.info("Sharded stock sale: 1 bucket {} orders/s, 4 buckets {} orders/s", singleBucket, multiBucket);
+
+        assertThat(multiBucket).isGreaterThan(singleBucket);
+    }
+
+    @Test
+    @DisplayName("주문의 재고 행을 한 번에 잠그면 항목마다 잠글 때보다 초당 주문 수가 많아야 한다")
+    void shouldSellFasterWithOneOrderedLockThanPerItemLocks() throws InterruptedException {
+        // Given
+        List<Long> batchedProductIds = createProducts(3);
+        List<Long> perItemProductIds = createProducts(3);
+
+        // When
+        long batched = measureOrdersPerSecond(() -> productStockManager.sale(orderItems(batchedProductIds)));
+        long perItem = measureOrdersPerSecond(() -> saleLockingPerItem(orderItems(perItemProductIds)));
+
+        // Then
+        log.info("Order stock sale: per-item locks {} orders/s, one ordered lock {} orders/s", perItem, batched);
+
+        assertThat(batched).isGreaterThan(perItem);
+    }
+
+    /**
+     * 기준선으로 쓰는 예전 판매 경로. 항목마다 재고 행을 SELECT FOR UPDATE 로 잠그고 상품을 따로 읽는다.
+     * 예전 경로는 요청 순서대로 잠가 교착이 날 수 있었으므로, 처리량만 비교하도록 여기서는 상품 id 순서로 잠근다.
+     */
+    private void saleLockingPerItem(List<ProductStockItemDto> items) {
+        List<ProductStockItemDto> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparing(ProductStockItemDto::getProductId));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (ProductStockItemDto item : sorted) {
+                ProductStock productStock = productStockRepository.findLockedByProductId(item.getProductId()).get();
+                Product product = productStock.getProduct();
+
+                productStock.decrease(item.getQuantity(), StockChangeReason.SALE);
+                if (product.getStatus() == ProductStatus.ACTIVE && !productStock.isAvailable()) {
+                    product.soldOut();
+                }
+
+                eventPublisher.publishDomainEventsFrom(productStock);
+            }
+        });
+    }
+
+    private List<Long> createProducts(int count) {
+        List<Long> productIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            productIds.add(productRepository.save(ProductTestFixtures.createDefaultProduct(INITIAL_QUANTITY)).getId());
+        }
+        return productIds;
+    }
+
+    /**
+     * 같은 상품들을 매번 섞은 순서로 담은 주문.
+     */
+    private List<ProductStockItemDto> orderItems(List<Long> productIds) {
+        List<ProductStockItemDto> items = new ArrayList<>(productIds.stream()
+                .map(productId -> new ProductStockItemDto(productId, 1))
+                .toList());
+        Collections.shuffle(items);
+        return items;
+    }
+
+    private Long createShardedProduct(int bucketCount) {
+        Long productId = productRepository.save(ProductTestFixtures.createDefaultProduct(INITIAL_QUANTITY)).getId();
+        productStockManager.rebalance(productId, bucketCount);
+        return productId;
+    }
+
+    private long measureOrdersPerSecond(Runnable order) throws InterruptedException {
+        run(order, WARMUP_ORDERS_PER_THREAD);
+
+        long startedAt = System.nanoTime();
+        run(order, ORDERS_PER_THREAD);
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+        return (long) THREADS * ORDERS_PER_THREAD * 1000L / elapsedMillis;
+    }
+
+    private void run(Runnable order, int ordersPerThread) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < ordersPerThread; i++) {
+                        order.run();
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        boolean finished = done.await(120, TimeUnit.SECONDS);
+        executor.shutdownNow();
+
+        assertThat(finished).isTrue();
+        assertThat(failures).isEmpty();
+    }
+}
@@ -75,6 +75,21 @@ class UserCreditTest {
                     .isInstanceOf(UnprocessableEntityException.class)
                     .hasMessageContaining("충전금액은 0과 같거나 작을 수 없습니다");
         }
+
+        @Test
+        @DisplayName("충전 후 잔액이 최대 금액을 넘으면 예외가 발생한다")
+        void shouldThrowExceptionWhenBalanceExceedsMaxAmount() {
+            // Given
+            User user = UserTestFixtures.createUser();
+            UserCredit userCredit = new UserCredit(user);
+            userCredit.add(new Money(Money.MAX_AMOUNT));
+
+            // When & Then
+            assertThatThrownBy(() -> userCredit.add(new Money(BigDecimal.ONE)))
+                    .isInstanceOf(UnprocessableEntityException.class)
+                    .hasMessageContaining("충전 후 잔액이 최대 금액을 넘을 수 없습니다.");
+            assertThat(userCredit.getAmount()).isEqualTo(new Money(Money.MAX_AMOUNT));
+        }
     }
 
     @Nested
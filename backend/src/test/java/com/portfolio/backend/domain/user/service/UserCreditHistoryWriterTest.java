@@ -0,0 +1,79 @@
+package com.portfolio.backend.domain.user.service;
+
+import com.portfolio.backend.domain.common.value.Money;
+import com.portfolio.backend.domain.user.entity.UserCredit;
+import com.portfolio.backend.domain.user.entity.UserCreditHistory;
+import com.portfolio.backend.domain.user.repository.UserCreditHistoryRepository;
+import com.portfolio.backend.domain.user.repository.UserCreditRepository;
+import com.portfolio.backend.service.ServiceTest;
+import com.portfolio.backend.service.user.UserCreditService;
+import com.portfolio.backend.service.user.fixture.UserCreditServiceRequestTestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UserCreditHistoryWriter 테스트")
+@TestPropertySource(properties = "user.credit.history.writer.enabled=true")
+class UserCreditHistoryWriterTest extends ServiceTest {
+
+    private static final int INCREASES = 40;
+    private static final BigDecimal AMOUNT = BigDecimal.valueOf(1000);
+
+    @Autowired
+    private UserCreditRepository userCreditRepository;
+    @Autowired
+    private UserCreditHistoryRepository userCreditHistoryRepository;
+
+    @Autowired
+    private UserCreditService userCreditService;
+
+    @AfterEach
+    void tearDown() {
+        userCreditHistoryRepository.deleteAll();
+        userCreditRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("큐를 거쳐 기록해도 동시에 충전한 이력이 빠짐없이 잔액 순서대로 남아야 한다")
+    void shouldWriteEveryHistoryInBalanceOrder() throws InterruptedException {
+        // Given
+        userCreditRepository.save(new UserCredit(user));
+
+        // When
+        CompletableFuture.allOf(IntStream.range(0, INCREASES)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> userCreditService.increase(user.getId(),
+                        UserCreditServiceRequestTestFixtures.createIncrease(AMOUNT))).thenCompose(future -> future))
+                .toArray(CompletableFuture[]::new)).join();
+        List<UserCreditHistory> histories = awaitHistories(INCREASES);
+
+        // Then
+        assertThat(histories).extracting(UserCreditHistory::getBalanceAfterTransaction)
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, INCREASES)
+                        .mapToObj(i -> new Money(AMOUNT.multiply(BigDecimal.valueOf(i))))
+                        .toList());
+    }
+
+    private List<UserCreditHistory> awaitHistories(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        List<UserCreditHistory> histories = List.of();
+        while (System.nanoTime() - deadline < 0) {
+            histories = userCreditHistoryRepository.findAll(Sort.by("id"));
+            if (histories.size() >= expected) {
+                break;
+            }
+            Thread.sleep(20);
+        }
+        return histories;
+    }
+}
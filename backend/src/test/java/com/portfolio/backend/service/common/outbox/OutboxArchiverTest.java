@@ -0,0 +1,107 @@
+package com.portfolio.backend.service.common.outbox;
+
+import com.portfolio.backend.service.ServiceTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OutboxArchiver 테스트")
+class OutboxArchiverTest extends ServiceTest {
+
+    @Autowired
+    private OutboxArchiver outboxArchiver;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID oldCompletedId = UUID.randomUUID();
+    private final UUID oldCompensatingId = UUID.randomUUID();
+    private final UUID recentCompletedId = UUID.randomUUID();
+    private final UUID finishedSagaParticipantId = UUID.randomUUID();
+    private final UUID compensatingSagaParticipantId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        for (UUID id : new UUID[]{oldCompletedId, oldCompensatingId, recentCompletedId}) {
+            jdbcTemplate.update("DELETE FROM payment_outbox WHERE id = ?", id);
+            jdbcTemplate.update("DELETE FROM payment_outbox_archive WHERE id = ?", id);
+        }
+        for (UUID id : new UUID[]{finishedSagaParticipantId, compensatingSagaParticipantId}) {
+            jdbcTemplate.update("DELETE FROM payment_outbox WHERE id = ?", id);
+            jdbcTemplate.update("DELETE FROM payment_outbox_archive WHERE id = ?", id);
+            jdbcTemplate.update("DELETE FROM user_credit_order_outbox WHERE id = ?", id);
+            jdbcTemplate.update("DELETE FROM user_credit_order_outbox_archive WHERE id = ?", id);
+        }
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 종료된 사가 행만 보관 테이블로 옮겨야 한다")
+    void shouldArchiveOnlyFinishedRowsOlderThanRetention() {
+        // Given
+        insertPaymentOutbox(oldCompletedId, "SUCCEEDED", LocalDateTime.now().minusDays(30));
+        insertPaymentOutbox(oldCompensatingId, "COMPENSATING", LocalDateTime.now().minusDays(30));
+        insertPaymentOutbox(recentCompletedId, "SUCCEEDED", LocalDateTime.now());
+
+        // When
+        Map<String, Integer> archived = outboxArchiver.archive();
+
+        // Then
+        assertThat(existsIn("payment_outbox", oldCompletedId)).isFalse();
+        assertThat(existsIn("payment_outbox_archive", oldCompletedId)).isTrue();
+        assertThat(existsIn("payment_outbox", oldCompensatingId)).isTrue();
+        assertThat(existsIn("payment_outbox", recentCompletedId)).isTrue();
+        assertThat(archived.get("payment_outbox")).isPositive();
+    }
+
+    @Test
+    @DisplayName("참여자 행은 사가가 종료된 경우에만 보관 테이블로 옮겨야 한다")
+    void shouldArchiveParticipantOnlyWhenSagaFinished() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(30);
+        UUID finishedSagaId = UUID.randomUUID();
+        UUID compensatingSagaId = UUID.randomUUID();
+        insertPaymentOutbox(finishedSagaParticipantId, finishedSagaId, "SUCCEEDED", createdAt);
+        insertPaymentOutbox(compensatingSagaParticipantId, compensatingSagaId, "COMPENSATING", createdAt);
+        insertUserCreditOrderOutbox(finishedSagaParticipantId, finishedSagaId, createdAt);
+        insertUserCreditOrderOutbox(compensatingSagaParticipantId, compensatingSagaId, createdAt);
+
+        // When
+        outboxArchiver.archive();
+
+        // Then
+        assertThat(existsIn("user_credit_order_outbox_archive", finishedSagaParticipantId)).isTrue();
+        assertThat(existsIn("user_credit_order_outbox", compensatingSagaParticipantId)).isTrue();
+        assertThat(existsIn("user_credit_order_outbox_archive", compensatingSagaParticipantId)).isFalse();
+    }
+
+    private void insertPaymentOutbox(UUID id, String sagaStatus, LocalDateTime createdAt) {
+        insertPaymentOutbox(id, UUID.randomUUID(), sagaStatus, createdAt);
+    }
+
+    private void insertPaymentOutbox(UUID id, UUID sagaId, String sagaStatus, LocalDateTime createdAt) {
+        jdbcTemplate.update("""
+                INSERT INTO payment_outbox (id, order_id, saga_id, saga_type, version, order_status, outbox_status, saga_status, payload, created_at, processed_at)
+                VALUES (?, ?, ?, 'ORDER', 0, 'ORDERED', 'COMPLETED', ?, '{}', ?, ?)
+                """, id, UUID.randomUUID(), sagaId, sagaStatus, createdAt, createdAt);
+    }
+
+    private void insertUserCreditOrderOutbox(UUID id, UUID sagaId, LocalDateTime createdAt) {
+        jdbcTemplate.update("""
+                INSERT INTO user_credit_order_outbox (id, order_id, saga_id, outbox_status, payment_status, payload, created_at, processed_at)
+                VALUES (?, ?, ?, 'COMPLETED', 'COMPLETED', '{}', ?, ?)
+                """, id, UUID.randomUUID(), sagaId, createdAt, createdAt);
+    }
+
+    private boolean existsIn(String table, UUID id) {
+        Integer count = jdbcTemplate.queryForObject("SELECT count(*) FROM " + table + " WHERE id = ?", Integer.class, id);
+        return count != null && count > 0;
+    }
+}
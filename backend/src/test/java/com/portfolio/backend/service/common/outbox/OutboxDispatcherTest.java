@@ -0,0 +1,105 @@
+package com.portfolio.backend.service.common.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OutboxDispatcher 테스트")
+class OutboxDispatcherTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxDispatcher outboxDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxDispatcher = new OutboxDispatcher(new OutboxWorkerProperties(), meterRegistry, new MockEnvironment());
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxDispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("한 레인이 멈춰 있어도 다른 참여자와 보상 레인은 실행되어야 한다")
+    void shouldRunOtherLanesWhileOneLaneIsBlocked() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch blockedStarted = new CountDownLatch(1);
+        CountDownLatch othersDone = new CountDownLatch(2);
+
+        outboxDispatcher.register(OutboxType.PRODUCT_STOCK_ORDER, OutboxPhase.PROCESS, () -> {
+            blockedStarted.countDown();
+            await(release);
+        });
+        outboxDispatcher.register(OutboxType.PRODUCT_STOCK_ORDER, OutboxPhase.COMPENSATION, othersDone::countDown);
+        outboxDispatcher.register(OutboxType.USER_CREDIT_ORDER, OutboxPhase.PROCESS, othersDone::countDown);
+
+        // When
+        outboxDispatcher.signal(OutboxType.PRODUCT_STOCK_ORDER);
+        assertThat(blockedStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        outboxDispatcher.signal(OutboxType.USER_CREDIT_ORDER);
+
+        // Then
+        assertThat(othersDone.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("outbox.lane.drains.active")
+                .tag("type", "PRODUCT_STOCK_ORDER").tag("phase", "PROCESS")
+                .gauge().value()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("실행 중에 들어온 신호는 겹쳐 실행되지 않고 한 번의 재실행으로 합쳐져야 한다")
+    void shouldCoalesceSignalsWhileRunning() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+
+        outboxDispatcher.register(OutboxType.PAYMENT, OutboxPhase.PROCESS, () -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            if (runs.incrementAndGet() == 1) {
+                started.countDown();
+                await(release);
+            }
+            concurrent.decrementAndGet();
+        });
+
+        // When
+        outboxDispatcher.signal(OutboxType.PAYMENT);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 10; i++) {
+            outboxDispatcher.signal(OutboxType.PAYMENT);
+        }
+        release.countDown();
+
+        // Then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (runs.get() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(100);
+        assertThat(runs.get()).isEqualTo(2);
+        assertThat(maxConcurrent.get()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.portfolio.backend.service.common.outbox;
+
+import com.portfolio.backend.domain.common.outbox.OutboxStatus;
+import com.portfolio.backend.domain.common.outbox.SagaStatus;
+import com.portfolio.backend.domain.common.outbox.SagaType;
+import com.portfolio.backend.domain.order.entity.OrderStatus;
+import com.portfolio.backend.domain.order.outbox.PaymentOutbox;
+import com.portfolio.backend.domain.order.repository.PaymentOutboxRepository;
+import com.portfolio.backend.service.ServiceTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OutboxRelay 테스트")
+class OutboxRelayTest extends ServiceTest {
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private PaymentOutboxRepository paymentOutboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID firstId = UUID.randomUUID();
+    private final UUID secondId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        paymentOutboxRepository.deleteAllById(List.of(firstId, secondId));
+    }
+
+    @Test
+    @DisplayName("배치를 처리하는 동안 다른 인스턴스가 다시 선점한 행은 건너뛰고, 처리한 행은 선점을 풀어야 한다")
+    void shouldSkipRowReclaimedWhileBatchIsProcessed() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.now().minusMinutes(1);
+        paymentOutboxRepository.save(createOutbox(firstId, createdAt));
+        paymentOutboxRepository.save(createOutbox(secondId, createdAt.plusSeconds(1)));
+        LocalDateTime reclaimedAt = LocalDateTime.now().plusMinutes(1).truncatedTo(ChronoUnit.MICROS);
+        List<UUID> handled = new ArrayList<>();
+
+        // When
+        outboxRelay.relay("test",
+                (claimExpiredAt, pageable) -> paymentOutboxRepository.findClaimableBySagaStatusAndOutboxStatus(
+                                SagaStatus.STARTED, OutboxStatus.FAILED, claimExpiredAt, pageable).stream()
+                        .filter(outbox -> outbox.getId().equals(firstId) || outbox.getId().equals(secondId))
+                        .toList(),
+                paymentOutboxRepository::markClaimed,
+                paymentOutboxRepository::extendClaim,
+                outbox -> {
+                    handled.add(outbox.getId());
+                    // 첫 행을 처리하는 사이 두 번째 행의 선점이 만료되어 다른 인스턴스가 가져갔다.
+                    jdbcTemplate.update("UPDATE payment_outbox SET claimed_at = ? WHERE id = ?", reclaimedAt, secondId);
+                    outbox.setOutboxStatus(OutboxStatus.COMPLETED);
+                    paymentOutboxRepository.save(outbox);
+                });
+
+        // Then
+        assertThat(handled).containsExactly(firstId);
+        assertThat(paymentOutboxRepository.findById(firstId).orElseThrow().getClaimedAt()).isNull();
+        assertThat(paymentOutboxRepository.findById(secondId).orElseThrow().getClaimedAt()).isEqualTo(reclaimedAt);
+    }
+
+    private PaymentOutbox createOutbox(UUID id, LocalDateTime createdAt) {
+        return PaymentOutbox.builder()
+                .id(id)
+                .sagaId(UUID.randomUUID())
+                .orderId(UUID.randomUUID())
+                .sagaType(SagaType.ORDER)
+                .createdAt(createdAt)
+                .payload("{}")
+                .sagaStatus(SagaStatus.STARTED)
+                .orderStatus(OrderStatus.PENDING)
+                .outboxStatus(OutboxStatus.FAILED)
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.portfolio.backend.service.order;
+
+import org.junit.jupiter.api.DisplayName;
+
+@DisplayName("주문 INSERT 처리량 측정 - JDBC 배치")
+class BatchedOrderInsertBenchmarkTest extends OrderInsertBenchmark {
+
+    @Override
+    protected boolean batched() {
+        return true;
+    }
+}
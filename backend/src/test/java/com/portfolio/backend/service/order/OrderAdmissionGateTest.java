@@ -0,0 +1,136 @@
+package com.portfolio.backend.service.order;
+
+import com.portfolio.backend.common.exception.TooManyRequestsException;
+import com.portfolio.backend.domain.cart.repository.ProductCartRepository;
+import com.portfolio.backend.domain.product.entity.ProductStock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("OrderAdmissionGate 테스트")
+class OrderAdmissionGateTest {
+
+    private ProductCartRepository productCartRepository;
+    private OrderAdmissionProperties properties;
+    private OrderAdmissionGate gate;
+
+    @BeforeEach
+    void setUp() {
+        productCartRepository = mock(ProductCartRepository.class);
+        properties = new OrderAdmissionProperties();
+        properties.setPermitsPerProduct(1);
+        properties.setMaxWaiting(0);
+        properties.setMaxWait(Duration.ofMillis(100));
+        properties.setRetryAfter(Duration.ofSeconds(3));
+        gate = new OrderAdmissionGate(productCartRepository, properties);
+    }
+
+    @Test
+    @DisplayName("허가가 모두 사용 중이고 대기열이 가득 차면 Retry-After 와 함께 거절한다")
+    void shouldRejectWhenPermitsAndQueueAreFull() {
+        // Given
+        OrderAdmissionGate.Admission holding = gate.admit(List.of(1L));
+
+        // When & Then
+        assertThatThrownBy(() -> gate.admit(List.of(1L)))
+                .isInstanceOf(TooManyRequestsException.class)
+                .extracting("retryAfter")
+                .isEqualTo(Duration.ofSeconds(3));
+
+        holding.close();
+        gate.admit(List.of(1L)).close();
+    }
+
+    @Test
+    @DisplayName("대기 중인 요청은 허가가 반환되면 입장한다")
+    void shouldAdmitWaitingRequestWhenPermitIsReleased() throws Exception {
+        // Given
+        properties.setMaxWaiting(1);
+        properties.setMaxWait(Duration.ofSeconds(5));
+        OrderAdmissionGate.Admission holding = gate.admit(List.of(1L));
+
+        // When
+        CompletableFuture<OrderAdmissionGate.Admission> waiting = CompletableFuture.supplyAsync(() -> gate.admit(List.of(1L)));
+        Thread.sleep(100);
+        assertThat(waiting).isNotDone();
+        holding.close();
+
+        // Then
+        waiting.get(5, TimeUnit.SECONDS).close();
+    }
+
+    @Test
+    @DisplayName("대기 수는 상품별이 아니라 전체에서 제한해 다른 상품을 기다리는 요청이 있으면 바로 거절한다")
+    void shouldBoundWaitingRequestsAcrossProducts() throws Exception {
+        // Given
+        properties.setMaxWaiting(1);
+        properties.setMaxWait(Duration.ofSeconds(5));
+        OrderAdmissionGate.Admission holdingFirst = gate.admit(List.of(1L));
+        OrderAdmissionGate.Admission holdingSecond = gate.admit(List.of(2L));
+        CompletableFuture<OrderAdmissionGate.Admission> waiting = CompletableFuture.supplyAsync(() -> gate.admit(List.of(1L)));
+        Thread.sleep(100);
+
+        // When & Then
+        assertThatThrownBy(() -> gate.admit(List.of(2L)))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        holdingFirst.close();
+        waiting.get(5, TimeUnit.SECONDS).close();
+        holdingSecond.close();
+    }
+
+    @Test
+    @DisplayName("한 상품이라도 입장하지 못하면 이미 받은 다른 상품의 허가를 반환한다")
+    void shouldReleaseAcquiredPermitsWhenAnyProductIsRejected() {
+        // Given
+        OrderAdmissionGate.Admission holding = gate.admit(List.of(2L));
+
+        // When
+        assertThatThrownBy(() -> gate.admit(List.of(2L, 1L)))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        // Then
+        gate.admit(List.of(1L)).close();
+        holding.close();
+    }
+
+    @Test
+    @DisplayName("품절로 표시된 상품은 허가를 기다리지 않고 바로 재고 부족으로 거절하고, 재입고되면 다시 받는다")
+    void shouldShortCircuitSoldOutProductUntilRestocked() {
+        // Given
+        gate.stockChanged(1L, true);
+
+        // When & Then
+        assertThatThrownBy(() -> gate.admit(List.of(1L)))
+                .isSameAs(ProductStock.OUT_OF_STOCK);
+
+        gate.stockChanged(1L, false);
+        gate.admit(List.of(1L)).close();
+    }
+
+    @Test
+    @DisplayName("사용자 장바구니의 상품 기준으로 허가를 받고, 꺼져 있으면 장바구니를 읽지 않는다")
+    void shouldAdmitByCartProducts() {
+        // Given
+        given(productCartRepository.findProductIdsByUserId(1L)).willReturn(List.of(1L));
+        OrderAdmissionGate.Admission holding = gate.admit(1L);
+
+        // When & Then
+        assertThatThrownBy(() -> gate.admit(1L))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        properties.setEnabled(false);
+        gate.admit(2L).close();
+        holding.close();
+    }
+}
@@ -0,0 +1,140 @@
+package com.portfolio.backend.service.order;
+
+import com.portfolio.backend.domain.order.entity.Order;
+import com.portfolio.backend.domain.order.fixture.OrderTestFixtures;
+import com.portfolio.backend.domain.order.repository.OrderRepository;
+import com.portfolio.backend.domain.product.entity.Product;
+import com.portfolio.backend.domain.product.entity.ProductStockHistory;
+import com.portfolio.backend.domain.product.entity.StockChangeReason;
+import com.portfolio.backend.domain.product.fixture.ProductTestFixtures;
+import com.portfolio.backend.domain.product.repository.ProductRepository;
+import com.portfolio.backend.domain.product.repository.ProductStockHistoryRepository;
+import com.portfolio.backend.domain.user.entity.Oauth2ProviderType;
+import com.portfolio.backend.domain.user.entity.RoleType;
+import com.portfolio.backend.domain.user.entity.User;
+import com.portfolio.backend.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 20개짜리 주문 한 건(orders 1행, order_items 20행, stock_histories 20행)을 한 트랜잭션으로 저장하며
+ * 초당 INSERT 수를 측정한다. JDBC 배치 설정만 다른 하위 클래스를 ./gradlew benchmark 로 실행해 비교한다.
+ * 두 경우 모두 같은 시퀀스 ID 를 쓰므로 배치 여부만 비교되고, 배치가 실제로 적용되었는지는
+ * Hibernate 통계의 준비된 문장 수로 확인한다. 데이터를 정리하지 않으므로 전용 테스트 DB 에서 실행한다.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+abstract class OrderInsertBenchmark {
+
+    private static final int ITEMS_PER_ORDER = 20;
+    private static final int WARMUP_ORDERS = 50;
+    private static final int ORDERS = 500;
+    private static final int ROWS_PER_ORDER = 1 + ITEMS_PER_ORDER * 2;
+    // 배치로 기록하면 주문 한 건에 orders, order_items, stock_histories 문장 하나씩과 가끔의 시퀀스 조회만 남는다.
+    private static final int BATCHED_STATEMENTS_PER_ORDER = 4;
+
+    @MockBean
+    private S3Client s3Client;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private ProductStockHistoryRepository productStockHistoryRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private final List<Product> products = new ArrayList<>();
+
+    @BeforeAll
+    void setUp() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(new User("bench-" + run + "@email.com", "bench",
+                Oauth2ProviderType.GITHUB, "bench-" + run, null, RoleType.USER));
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            products.add(productRepository.save(ProductTestFixtures.createDefaultProduct(10)));
+        }
+    }
+
+    protected abstract boolean batched();
+
+    @Test
+    @DisplayName("상품 20개 주문의 초당 INSERT 수를 측정한다")
+    void shouldMeasureInsertsPerSecond() {
+        // Given
+        for (int i = 0; i < WARMUP_ORDERS; i++) {
+            insertOrder();
+        }
+        long ordersBefore = orderRepository.count();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // When
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ORDERS; i++) {
+            insertOrder();
+        }
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        long preparedStatements = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+
+        // Then
+        log.info("[{}] {} orders x {} rows in {} ms, {} inserts/s, {} prepared statements",
+                batched() ? "batched" : "unbatched", ORDERS, ROWS_PER_ORDER, elapsedMillis,
+                (long) ORDERS * ROWS_PER_ORDER * 1000L / elapsedMillis, preparedStatements);
+
+        assertThat(orderRepository.count() - ordersBefore).isEqualTo(ORDERS);
+        if (batched()) {
+            assertThat(preparedStatements).isLessThanOrEqualTo((long) ORDERS * BATCHED_STATEMENTS_PER_ORDER);
+        } else {
+            assertThat(preparedStatements).isGreaterThanOrEqualTo((long) ORDERS * ROWS_PER_ORDER);
+        }
+    }
+
+    private void insertOrder() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Order order = OrderTestFixtures.createDefaultOrder(user, products);
+            orderRepository.save(order);
+
+            productStockHistoryRepository.saveAll(products.stream()
+                    .map(product -> ProductStockHistory.builder()
+                            .product(product)
+                            .previous(10)
+                            .changed(-1)
+                            .reason(StockChangeReason.SALE)
+                            .memo("benchmark")
+                            .build())
+                    .toList());
+        });
+    }
+}
@@ -7,6 +7,7 @@ import com.portfolio.backend.domain.cart.entity.ProductCart;
 import com.portfolio.backend.domain.cart.repository.ProductCartRepository;
 import com.portfolio.backend.domain.common.value.Money;
 import com.portfolio.backend.domain.order.entity.Order;
+import com.portfolio.backend.domain.order.entity.OrderStatus;
 import com.portfolio.backend.domain.order.fixture.OrderTestFixtures;
 import com.portfolio.backend.domain.order.repository.OrderRepository;
 import com.portfolio.backend.domain.product.entity.Product;
@@ -16,12 +17,17 @@ import com.portfolio.backend.service.ServiceTest;
 import com.portfolio.backend.service.order.dto.OrderServiceRequest;
 import com.portfolio.backend.service.order.dto.OrderServiceResponse;
 import com.portfolio.backend.service.order.fixture.OrderServiceRequestTestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -45,6 +51,18 @@ class OrderServiceTest extends ServiceTest {
     @Autowired
     private OrderService orderService;
 
+    @Autowired
+    private OrderSummaryProjector orderSummaryProjector;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @MockBean
     protected EventPublisher eventPublisher;
 
@@ -65,6 +83,10 @@ class OrderServiceTest extends ServiceTest {
         orderRepository.deleteAll();
         productCartRepository.deleteAll();
         productRepository.deleteAll();
+        // 단언이 실패해도 다른 테스트가 통계 수집 비용과 누적값을 물려받지 않도록 끈다.
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(false);
+        statistics.clear();
     }
 
     @Nested
@@ -127,6 +149,7 @@ class OrderServiceTest extends ServiceTest {
         void shouldReturnOrderPageByUserId() {
             // Given
             Order order = orderRepository.save(OrderTestFixtures.createDefaultOrder(user, List.of(product)));
+            orderSummaryProjector.created(order);
             Pageable pageable = PageRequest.of(0, 10);
 
             // When
@@ -141,6 +164,45 @@ class OrderServiceTest extends ServiceTest {
             assertThat(orderResponse.totalPrice()).isEqualTo(order.getTotalPrice());
         }
 
+        @Test
+        @DisplayName("주문 목록은 주문 상품 테이블을 읽지 않고 한 번의 쿼리로 조회해야 한다")
+        void shouldLoadOrderPageWithSingleQuery() {
+            // Given
+            for (int i = 0; i < 3; i++) {
+                orderSummaryProjector.created(orderRepository.save(OrderTestFixtures.createDefaultOrder(user, List.of(product))));
+            }
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+
+            // When
+            Page<OrderServiceResponse.Get> result = orderService.getPage(user.getId(), PageRequest.of(0, 10));
+
+            // Then
+            assertThat(result.getContent()).hasSize(3);
+            assertThat(result.getContent()).allSatisfy(order -> assertThat(order.orderItems()).hasSize(1));
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("주문 상태가 바뀌면 주문 목록에도 반영되어야 한다")
+        void shouldReflectOrderStatusChange() {
+            // Given
+            Order order = orderRepository.save(OrderTestFixtures.createDefaultOrder(user, List.of(product)));
+            orderSummaryProjector.created(order);
+
+            // When
+            transactionTemplate.executeWithoutResult(status -> {
+                Order saved = orderRepository.findById(order.getId()).orElseThrow();
+                saved.paymentCompleted();
+                saved.getDomainEvents().forEach(applicationEventPublisher::publishEvent);
+            });
+
+            // Then
+            Page<OrderServiceResponse.Get> result = orderService.getPage(user.getId(), PageRequest.of(0, 10));
+            assertThat(result.getContent().get(0).orderStatus()).isEqualTo(OrderStatus.PAID);
+        }
+
         @Test
         @DisplayName("주문이 없는 경우 빈 페이지를 반환해야 한다")
         void shouldReturnEmptyPageWhenNoOrders() {
@@ -0,0 +1,18 @@
+package com.portfolio.backend.service.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@DisplayName("주문 INSERT 처리량 측정 - 행 단위 INSERT")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.jdbc.batch_size=0",
+        "spring.jpa.properties.hibernate.order_inserts=false",
+        "spring.datasource.hikari.data-source-properties.reWriteBatchedInserts=false"
+})
+class UnbatchedOrderInsertBenchmarkTest extends OrderInsertBenchmark {
+
+    @Override
+    protected boolean batched() {
+        return false;
+    }
+}
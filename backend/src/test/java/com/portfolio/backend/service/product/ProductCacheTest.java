@@ -0,0 +1,151 @@
+package com.portfolio.backend.service.product;
+
+import com.portfolio.backend.domain.product.entity.Product;
+import com.portfolio.backend.domain.product.fixture.ProductTestFixtures;
+import com.portfolio.backend.domain.product.repository.ProductRepository;
+import com.portfolio.backend.domain.product.repository.ProductStockHistoryRepository;
+import com.portfolio.backend.service.ServiceTest;
+import com.portfolio.backend.service.product.dto.ProductServiceResponse;
+import com.portfolio.backend.service.product.fixture.ProductServiceRequestTestFixtures;
+import com.portfolio.backend.service.product.fixture.ProductStockServiceRequestTestFixtures;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("상품 조회 캐시 테스트")
+@TestPropertySource(properties = "product.cache.enabled=true")
+class ProductCacheTest extends ServiceTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductStockHistoryRepository productStockHistoryRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductStockService productStockService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ProductCatalogVersion productCatalogVersion;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        productStockHistoryRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 상품을 다시 조회하면 캐시에서 응답하고 hit 지표가 증가한다")
+    void shouldServeRepeatedReadFromCache() {
+        // Given
+        Product product = productRepository.save(ProductTestFixtures.createDefaultProduct(10));
+        productService.getProduct(product.getId());
+        double hitsBefore = hitCount(ProductCacheNames.PRODUCT);
+
+        // When
+        productRepository.deleteById(product.getId());
+        ProductServiceResponse.Get cached = productService.getProduct(product.getId());
+
+        // Then
+        assertThat(cached.id()).isEqualTo(product.getId());
+        assertThat(hitCount(ProductCacheNames.PRODUCT)).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("재고가 변경되면 상품 상세와 목록 캐시가 무효화된다")
+    void shouldEvictOnStockChange() {
+        // Given
+        Product product = productRepository.save(ProductTestFixtures.createDefaultProduct(10));
+        productService.getProduct(product.getId());
+        productService.getProducts();
+
+        // When
+        productStockService.adjustStock(product.getId(), ProductStockServiceRequestTestFixtures.createStockAdjustRequest(3));
+
+        // Then
+        assertThat(productService.getProduct(product.getId()).stock()).isEqualTo(3);
+        List<ProductServiceResponse.SimpleGet> products = productService.getProducts();
+        assertThat(products).extracting(ProductServiceResponse.SimpleGet::stock).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("상품을 수정하면 변경된 내용이 바로 조회된다")
+    void shouldEvictOnUpdate() {
+        // Given
+        Product product = productRepository.save(ProductTestFixtures.createDefaultProduct(10));
+        productService.getProduct(product.getId());
+        productService.getProducts();
+
+        // When
+        productService.updateProduct(product.getId(), ProductServiceRequestTestFixtures.createProductUpdateRequest());
+
+        // Then
+        assertThat(productService.getProduct(product.getId()).name()).isEqualTo("LG 그램그램");
+        assertThat(productService.getProducts()).extracting(ProductServiceResponse.SimpleGet::name).containsExactly("LG 그램그램");
+    }
+
+    @Test
+    @DisplayName("재고가 변경되면 상품 목록 버전이 바뀐다")
+    void shouldChangeProductsVersionOnStockChange() {
+        // Given
+        Product product = productRepository.save(ProductTestFixtures.createDefaultProduct(10));
+        String before = productService.getProductsVersion().eTag();
+
+        // When
+        productStockService.adjustStock(product.getId(), ProductStockServiceRequestTestFixtures.createStockAdjustRequest(3));
+
+        // Then
+        assertThat(productService.getProductsVersion().eTag()).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("상품 목록 버전은 목록을 바꾼 트랜잭션이 커밋될 때 한 번만 바뀐다")
+    void shouldChangeProductsVersionOnceWithCommit() {
+        // Given
+        Product product = productRepository.save(ProductTestFixtures.createDefaultProduct(10));
+        long before = productCatalogVersion.current();
+
+        // When
+        long beforeCommit = new TransactionTemplate(transactionManager).execute(status -> {
+            productService.updateProduct(product.getId(), ProductServiceRequestTestFixtures.createProductUpdateRequest());
+            productStockService.adjustStock(product.getId(), ProductStockServiceRequestTestFixtures.createStockAdjustRequest(3));
+            return CompletableFuture.supplyAsync(productCatalogVersion::current).join();
+        });
+
+        // Then
+        assertThat(beforeCommit).isEqualTo(before);
+        assertThat(productCatalogVersion.current()).isEqualTo(before + 1);
+    }
+
+    private double hitCount(String cacheName) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", cacheName)
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+    }
+}
@@ -13,6 +13,9 @@ import com.portfolio.backend.service.ServiceTest;
 import com.portfolio.backend.service.product.dto.ProductServiceRequest;
 import com.portfolio.backend.service.product.dto.ProductServiceResponse;
 import com.portfolio.backend.service.product.fixture.ProductServiceRequestTestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.List;
 import java.util.Optional;
@@ -41,6 +45,12 @@ class ProductServiceTest extends ServiceTest {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @MockBean
     protected EventPublisher eventPublisher;
 
@@ -48,12 +58,52 @@ class ProductServiceTest extends ServiceTest {
     void tearDown() {
         productStockHistoryRepository.deleteAll();
         productRepository.deleteAll();
+        // 단언이 실패해도 다른 테스트가 통계 수집 비용과 누적값을 물려받지 않도록 끈다.
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(false);
+        statistics.clear();
     }
     
     @Nested
     @DisplayName("상품 목록 조회")
     class GetProductsTest {
 
+        @Test
+        @DisplayName("상품 수와 관계없이 목록 조회는 한 번의 쿼리로 끝나야 한다")
+        void shouldLoadProductListWithSingleQuery() {
+            // Given
+            for (int i = 0; i < 5; i++) {
+                productRepository.save(ProductTestFixtures.createDefaultProduct(10));
+            }
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+
+            // When
+            List<ProductServiceResponse.SimpleGet> result = productService.getProducts();
+
+            // Then
+            assertThat(result).hasSizeGreaterThanOrEqualTo(5);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("재고 행이 없는 상품도 재고 0 으로 목록에 포함되어야 한다")
+        void shouldIncludeProductWithoutStockRow() {
+            // Given
+            Product product = productRepository.save(ProductTestFixtures.createDefaultProduct(10));
+            jdbcTemplate.update("DELETE FROM product_stocks WHERE product_id = ?", product.getId());
+
+            // When
+            List<ProductServiceResponse.SimpleGet> result = productService.getProducts();
+
+            // Then
+            assertThat(result)
+                    .filteredOn(response -> response.id().equals(product.getId()))
+                    .singleElement()
+                    .satisfies(response -> assertThat(response.stock()).isZero());
+        }
+
         @Test
         @DisplayName("삭제되지 않은 모든 상품을 반환해야 한다")
         void shouldReturnAllNonDeletedProducts() {
@@ -83,6 +133,24 @@ class ProductServiceTest extends ServiceTest {
             // Then
             assertThat(result).isEmpty();
         }
+
+        @Test
+        @DisplayName("목록 버전은 조회만으로는 바뀌지 않고 상품을 수정하면 바뀌어야 한다")
+        void shouldChangeProductsVersionOnlyOnWrite() {
+            // Given
+            Product product = productRepository.save(ProductTestFixtures.createDefaultProduct(10));
+            String before = productService.getProductsVersion().eTag();
+            productService.getProducts();
+
+            // When
+            String afterRead = productService.getProductsVersion().eTag();
+            productService.updateProduct(product.getId(), ProductServiceRequestTestFixtures.createProductUpdateRequest());
+            String afterUpdate = productService.getProductsVersion().eTag();
+
+            // Then
+            assertThat(afterRead).isEqualTo(before);
+            assertThat(afterUpdate).isNotEqualTo(before);
+        }
     }
 
     @Nested
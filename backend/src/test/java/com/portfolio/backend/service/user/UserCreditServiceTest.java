@@ -1,15 +1,18 @@
 package com.portfolio.backend.service.user;
 
 import com.portfolio.backend.common.exception.DomainException;
+import com.portfolio.backend.common.exception.UnprocessableEntityException;
 import com.portfolio.backend.common.event.EventPublisher;
 import com.portfolio.backend.domain.common.value.Money;
 import com.portfolio.backend.domain.user.entity.CreditTransactionType;
 import com.portfolio.backend.domain.user.entity.UserCredit;
+import com.portfolio.backend.domain.user.entity.UserCreditHistory;
 import com.portfolio.backend.domain.user.event.UserCreditAmountChangedEvent;
 import com.portfolio.backend.domain.user.fixture.UserCreditHistoryTestFixtures;
 import com.portfolio.backend.domain.user.repository.UserCreditHistoryRepository;
 import com.portfolio.backend.domain.user.repository.UserCreditRepository;
 import com.portfolio.backend.service.ServiceTest;
+import com.portfolio.backend.service.common.dto.CursorPage;
 import com.portfolio.backend.service.user.dto.UserCreditServiceRequest;
 import com.portfolio.backend.service.user.dto.UserCreditServiceResponse;
 import com.portfolio.backend.service.user.fixture.UserCreditServiceRequestTestFixtures;
@@ -24,6 +27,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -127,6 +133,70 @@ class UserCreditServiceTest extends ServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("크레딧 이력 커서 조회 시")
+    class GetHistoryCursorPageTest {
+
+        @Test
+        @DisplayName("거래 시각 역순으로 중복 없이 끝까지 조회할 수 있다")
+        void shouldReadAllHistoriesInTransactionTimeOrder() {
+            // Given
+            UserCredit credit = userCreditRepository.save(new UserCredit(user));
+            Money amount = new Money(BigDecimal.valueOf(1000));
+            LocalDateTime base = LocalDateTime.of(2026, 10, 17, 12, 0);
+
+            // 같은 시각의 이력이 페이지 경계에 걸쳐도 id 로 이어서 읽어야 한다.
+            List<UserCreditHistory> histories = userCreditHistoryRepository.saveAll(List.of(
+                    history(credit, amount, base.minusMinutes(1)),
+                    history(credit, amount, base),
+                    history(credit, amount, base),
+                    history(credit, amount, base),
+                    history(credit, amount, base.plusMinutes(1))
+            ));
+
+            List<Long> expected = histories.stream()
+                    .sorted((a, b) -> a.getTransactionDateTime().equals(b.getTransactionDateTime())
+                            ? b.getId().compareTo(a.getId())
+                            : b.getTransactionDateTime().compareTo(a.getTransactionDateTime()))
+                    .map(UserCreditHistory::getId)
+                    .toList();
+
+            // When
+            List<Long> actual = new ArrayList<>();
+            String cursor = null;
+            CursorPage<UserCreditServiceResponse.GetHistoryPage> page;
+            do {
+                page = userCreditService.getHistoryCursorPage(user.getId(), new UserCreditServiceRequest.HistorySearch(cursor, 2));
+                page.content().forEach(history -> actual.add(history.id()));
+                cursor = page.nextCursor();
+            } while (page.hasNext());
+
+            // Then
+            assertThat(actual).containsExactlyElementsOf(expected);
+        }
+
+        @Test
+        @DisplayName("잘못된 커서면 예외가 발생한다")
+        void shouldThrowExceptionWhenCursorIsInvalid() {
+            // Given
+            userCreditRepository.save(new UserCredit(user));
+
+            // When & Then
+            assertThatThrownBy(() -> userCreditService.getHistoryCursorPage(user.getId(), new UserCreditServiceRequest.HistorySearch("invalid", 10)))
+                    .isInstanceOf(UnprocessableEntityException.class);
+        }
+
+        private UserCreditHistory history(UserCredit credit, Money amount, LocalDateTime at) {
+            return UserCreditHistory.builder()
+                    .userCredit(credit)
+                    .transactionDateTime(at)
+                    .transactionType(CreditTransactionType.INCREASE)
+                    .amount(amount)
+                    .balanceAfterTransaction(amount)
+                    .build();
+        }
+    }
+
     @Nested
     @DisplayName("크레딧 증가 시")
     class IncreaseTest {
@@ -142,7 +212,7 @@ class UserCreditServiceTest extends ServiceTest {
             UserCreditServiceRequest.Increase request = UserCreditServiceRequestTestFixtures.createIncrease(amount);
 
             // When
-            userCreditService.increase(userId, request);
+            userCreditService.increase(userId, request).join();
 
             // Then
             UserCredit response = userCreditRepository.findByUserId(userId).get();
@@ -159,7 +229,7 @@ class UserCreditServiceTest extends ServiceTest {
             UserCreditServiceRequest.Increase request = UserCreditServiceRequestTestFixtures.createIncrease(BigDecimal.valueOf(10000));
 
             // When
-            userCreditService.increase(userId, request);
+            userCreditService.increase(userId, request).join();
 
             // Then
             ArgumentCaptor<UserCredit> userCreditCaptor = ArgumentCaptor.forClass(UserCredit.class);
@@ -180,8 +250,9 @@ class UserCreditServiceTest extends ServiceTest {
             UserCreditServiceRequest.Increase request = UserCreditServiceRequestTestFixtures.createIncrease(BigDecimal.valueOf(10000));
 
             // When & Then
-            assertThatThrownBy(() -> userCreditService.increase(userId, request))
-                    .isInstanceOf(DomainException.class)
+            assertThatThrownBy(() -> userCreditService.increase(userId, request).join())
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(DomainException.class)
                     .hasMessageContaining("지갑이 존재하지 않습니다");
         }
     }
@@ -248,6 +319,26 @@ class UserCreditServiceTest extends ServiceTest {
                     .isInstanceOf(DomainException.class)
                     .hasMessageContaining("지갑이 존재하지 않습니다");
         }
+
+        @Test
+        @DisplayName("잔액이 부족하면 예외가 발생하고 잔액은 변하지 않는다")
+        void shouldThrowExceptionWhenCreditIsInsufficient() {
+            // Given
+            UserCredit userCredit = new UserCredit(user);
+            Money money = new Money(BigDecimal.valueOf(1000));
+            userCredit.add(money);
+            userCreditRepository.save(userCredit);
+
+            Long userId = user.getId();
+
+            // When, Then
+            assertThatThrownBy(() -> userCreditService.pay(userId, new Money(BigDecimal.valueOf(10000)), "테스트"))
+                    .isInstanceOf(UnprocessableEntityException.class)
+                    .hasMessageContaining("잔액이 부족합니다");
+
+            UserCredit response = userCreditRepository.findByUserId(userId).get();
+            assertThat(response.getAmount()).isEqualTo(money);
+        }
     }
 
     @Nested
@@ -270,7 +361,7 @@ class UserCreditServiceTest extends ServiceTest {
 
             // When - 동시 작업 시뮬레이션을 위해 차례로 실행
             // 1. 첫 번째 트랜잭션: 증가 작업
-            userCreditService.increase(userId, request);
+            userCreditService.increase(userId, request).join();
             
             // 2. 두 번째 트랜잭션: 감소 작업 
             userCreditService.pay(userId, decreaseAmount, "테스트");
@@ -295,7 +386,7 @@ class UserCreditServiceTest extends ServiceTest {
             UserCreditServiceRequest.Increase request = UserCreditServiceRequestTestFixtures.createIncrease(increaseAmount.getAmount());
 
             // When
-            userCreditService.increase(userId, request);
+            userCreditService.increase(userId, request).join();
 
             // Then
             UserCredit updatedCredit = userCreditRepository.findByUserId(userId).get();
@@ -317,7 +408,7 @@ class UserCreditServiceTest extends ServiceTest {
             
             // When - 순차적으로 여러 번 호출
             for (int i = 0; i < numberOfCalls; i++) {
-                userCreditService.increase(userId, request);
+                userCreditService.increase(userId, request).join();
             }
 
             // Then
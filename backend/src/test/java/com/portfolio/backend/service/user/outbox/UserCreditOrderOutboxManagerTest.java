@@ -0,0 +1,100 @@
+package com.portfolio.backend.service.user.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.common.event.EventPublisher;
+import com.portfolio.backend.common.event.PaymentStatus;
+import com.portfolio.backend.common.event.payload.OrderPaymentEventPayload;
+import com.portfolio.backend.domain.common.outbox.OutboxStatus;
+import com.portfolio.backend.domain.common.value.Money;
+import com.portfolio.backend.domain.user.entity.UserCredit;
+import com.portfolio.backend.domain.user.outbox.UserCreditOrderOutbox;
+import com.portfolio.backend.domain.user.repository.UserCreditHistoryRepository;
+import com.portfolio.backend.domain.user.repository.UserCreditOrderOutboxRepository;
+import com.portfolio.backend.domain.user.repository.UserCreditRepository;
+import com.portfolio.backend.service.ServiceTest;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UserCreditOrderOutboxManager 테스트")
+class UserCreditOrderOutboxManagerTest extends ServiceTest {
+
+    @Autowired
+    private UserCreditOrderOutboxManager userCreditOrderOutboxManager;
+
+    @Autowired
+    private UserCreditOrderOutboxRepository userCreditOrderOutboxRepository;
+    @Autowired
+    private UserCreditRepository userCreditRepository;
+    @Autowired
+    private UserCreditHistoryRepository userCreditHistoryRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    protected EventPublisher eventPublisher;
+
+    @AfterEach
+    void tearDown() {
+        userCreditOrderOutboxRepository.deleteAll();
+        userCreditHistoryRepository.deleteAll();
+        userCreditRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("선점이 만료된 뒤 늦게 끝난 보상은 다시 환불하지 않아야 한다")
+    void shouldRefundOnceWhenCompensationCompletesAfterClaimExpired() throws Exception {
+        // Given
+        UserCredit credit = new UserCredit(user);
+        credit.add(new Money(BigDecimal.valueOf(10000)));
+        userCreditRepository.save(credit);
+
+        UserCreditOrderOutbox outbox = userCreditOrderOutboxRepository.save(compensatingOutbox(BigDecimal.valueOf(5000)));
+        // 첫 인스턴스가 선점한 뒤 환불이 늦어지는 동안 선점이 만료되어 다른 인스턴스가 같은 행을 가져간 상황
+        UserCreditOrderOutbox expiredClaim = userCreditOrderOutboxRepository.findById(outbox.getId()).get();
+        UserCreditOrderOutbox reclaimed = userCreditOrderOutboxRepository.findById(outbox.getId()).get();
+
+        // When
+        userCreditOrderOutboxManager.userCreditOrderOutboxCompensation(reclaimed).get(5, TimeUnit.SECONDS);
+        userCreditOrderOutboxManager.userCreditOrderOutboxCompensation(expiredClaim).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(userCreditRepository.findByUserId(user.getId()).get().getAmount())
+                .isEqualTo(new Money(BigDecimal.valueOf(15000)));
+
+        UserCreditOrderOutbox compensated = userCreditOrderOutboxRepository.findById(outbox.getId()).get();
+        assertThat(compensated.getPaymentStatus()).isEqualTo(PaymentStatus.COMPENSATED);
+        assertThat(compensated.getOutboxStatus()).isEqualTo(OutboxStatus.COMPLETED);
+        assertThat(compensated.getClaimedAt()).isNull();
+    }
+
+    @SneakyThrows
+    private UserCreditOrderOutbox compensatingOutbox(BigDecimal price) {
+        OrderPaymentEventPayload payload = OrderPaymentEventPayload.builder()
+                .userId(user.getId())
+                .price(price)
+                .build();
+
+        return UserCreditOrderOutbox.builder()
+                .id(UUID.randomUUID())
+                .sagaId(UUID.randomUUID())
+                .orderId(UUID.randomUUID())
+                .createdAt(LocalDateTime.now())
+                .claimedAt(LocalDateTime.now().minusHours(1))
+                .payload(objectMapper.writeValueAsString(payload))
+                .outboxStatus(OutboxStatus.STARTED)
+                .paymentStatus(PaymentStatus.COMPENSATING)
+                .build();
+    }
+}